@@ -0,0 +1,70 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 16th, 2026
+ * ConnectionReuseBench.java
+ * ---------------------------------
+ * Quick timing of one update per "click":
+ * old way (open connection + prepare every call) vs DbLibrary's kept-open connection
+ * Run: java -cp out:sqlite-jdbc-3.50.3.0.jar ConnectionReuseBench [ops]
+ */
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class ConnectionReuseBench {
+
+    public static void main(String[] args) throws Exception {
+        int ops = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        Path dir = Files.createTempDirectory("checkpoint-bench");
+        Path db = dir.resolve("bench.db");
+
+        try (DbLibrary library = new DbLibrary(db.toString())) {
+            for (int id = 1; id <= 100; id++) {
+                library.add(new Game(id, "Game " + id, "PC", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL));
+            }
+
+            // warm up both paths so JIT/driver loading isn't counted
+            perCallConnection(db, 200);
+            reusedConnection(library, 200);
+
+            double oldUs = perCallConnection(db, ops);
+            double newUs = reusedConnection(library, ops);
+
+            System.out.printf("updates: %d%n", ops);
+            System.out.printf("connection per call : %8.1f us/op%n", oldUs);
+            System.out.printf("reused connection   : %8.1f us/op%n", newUs);
+            System.out.printf("speedup             : %8.1fx%n", oldUs / newUs);
+        } finally {
+            Files.deleteIfExists(db);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    /** what DbLibrary.updateField used to do: connect, prepare, run, close */
+    private static double perCallConnection(Path db, int ops) throws SQLException {
+        String url = "jdbc:sqlite:" + db;
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            try (Connection c = DriverManager.getConnection(url);
+                 PreparedStatement ps = c.prepareStatement("UPDATE games SET priority=? WHERE id=?")) {
+                ps.setInt(1, 1 + i % 5);
+                ps.setInt(2, 1 + i % 100);
+                ps.executeUpdate();
+            }
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ops;
+    }
+
+    private static double reusedConnection(DbLibrary library, int ops) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            library.updateField(1 + i % 100, "priority", String.valueOf(1 + i % 5));
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ops;
+    }
+} // END CONNECTIONREUSEBENCH
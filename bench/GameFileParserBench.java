@@ -0,0 +1,100 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 16th, 2026
+ * GameFileParserBench.java
+ * ---------------------------------
+ * Parse-only throughput: readLine + split + trim (old import loop) vs GameFileParser
+ * Scales games.txt up to [lines] rows (ids renumbered) in a temp file, then times both
+ * Run from the project folder: java -cp out GameFileParserBench [lines] [games.txt]
+ */
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class GameFileParserBench {
+
+    private static long checksum; // keeps the JIT from dropping the parse work
+
+    public static void main(String[] args) throws Exception {
+        int lines = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Path source = Path.of(args.length > 1 ? args[1] : "games.txt");
+        Path big = Files.createTempFile("checkpoint-games", ".txt");
+        try {
+            writeScaled(source, big, lines);
+            double mb = Files.size(big) / (1024.0 * 1024.0);
+            System.out.printf("file: %,d lines, %.1f MiB%n", lines, mb);
+
+            for (int round = 1; round <= 3; round++) { // first round is warm-up
+                double splitSec = time(() -> splitParse(big));
+                double mappedSec = time(() -> GameFileParser.parse(big, new CountingSink()));
+                if (round == 1) continue;
+                System.out.printf("round %d  readLine+split: %6.2f M lines/s (%6.1f MiB/s)   mapped: %6.2f M lines/s (%6.1f MiB/s)%n",
+                        round, lines / splitSec / 1e6, mb / splitSec, lines / mappedSec / 1e6, mb / mappedSec);
+            }
+            System.out.println("(checksum " + checksum + ")");
+        } finally {
+            Files.deleteIfExists(big);
+        }
+    }
+
+    /** repeats the data lines of source with fresh ids until there are `lines` rows */
+    private static void writeScaled(Path source, Path target, int lines) throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (String line : Files.readAllLines(source, StandardCharsets.UTF_8)) {
+            if (line.trim().isEmpty() || line.trim().startsWith("#")) continue;
+            rows.add(line.substring(line.indexOf('|'))); // drop the id, keep "|name|..."
+        }
+        try (BufferedWriter w = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                w.write(Integer.toString(i + 1));
+                w.write(rows.get(i % rows.size()));
+                w.newLine();
+            }
+        }
+    }
+
+    /** the loop importFromFile used before GameFileParser */
+    private static void splitParse(Path path) throws Exception {
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.trim().isEmpty() || line.trim().startsWith("#")) continue;
+                String[] p = line.split("\\|");
+                if (p.length != 6) continue;
+                int id = Integer.parseInt(p[0].trim());
+                String name = p[1].trim();
+                String platform = p[2].trim();
+                Game.Status status = Game.Status.valueOf(p[3].trim().toUpperCase(Locale.ROOT));
+                int priority = Integer.parseInt(p[4].trim());
+                Game.Ownership own = Game.Ownership.valueOf(p[5].trim().toUpperCase(Locale.ROOT));
+                checksum += id + priority + name.length() + platform.length() + status.ordinal() + own.ordinal();
+            }
+        }
+    }
+
+    private static final class CountingSink implements GameFileParser.RowSink {
+        @Override
+        public void row(int id, String name, String platform, Game.Status status, int priority,
+                        Game.Ownership ownership) {
+            checksum += id + priority + name.length() + platform.length() + status.ordinal() + ownership.ordinal();
+        }
+
+        @Override
+        public void malformed() { }
+    }
+
+    private interface Work { void run() throws Exception; }
+
+    private static double time(Work work) throws Exception {
+        long start = System.nanoTime();
+        work.run();
+        return (System.nanoTime() - start) / 1e9;
+    }
+} // END GAMEFILEPARSERBENCH
@@ -0,0 +1,158 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * BenchData.java
+ * ---------------------------------
+ * Made-up libraries of any size for the JMH benchmarks
+ * Game files and seeded SQLite databases are built once per size and kept in the temp folder,
+ * so a 1M-game trial starts from a file copy instead of a fresh import
+ * The "titled" variants use real-looking names (series: subtitle word) for the search benchmark
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Game n is always the same (name, platform, status, priority, ownership all follow from n),
+ * so every run and every version measures the same library.
+ */
+final class BenchData {
+
+    static final String DB_NAME = "bench.db";
+    static final Path CACHE = Path.of(System.getProperty("java.io.tmpdir"), "checkpoint-jmh-data");
+
+    private static final String[] PLATFORMS = {"PC", "Switch", "PS5", "Xbox", "Steam Deck", "PS4", "3DS", "Game Boy"};
+    private static final Game.Status[] STATUSES = Game.Status.values();
+    private static final Game.Ownership[] OWNERSHIPS = Game.Ownership.values();
+
+    // titles: 24 series x 32 subtitles x 4096 made-up words, so "zelda" is in 1 name of 24
+    private static final String[] SERIES = {"The Legend of Zelda", "Super Mario", "Final Fantasy", "Metroid",
+            "Dark Souls", "Pokémon", "Halo", "Castlevania", "Mega Man", "Street Fighter", "Kirby", "Fire Emblem",
+            "Persona", "Resident Evil", "Sonic the Hedgehog", "Tomb Raider", "Hollow Knight", "Donkey Kong",
+            "Star Fox", "Animal Crossing", "Xenoblade Chronicles", "Monster Hunter", "Tales of", "Dragon Quest"};
+    private static final String[] SUBTITLES = {"Breath of the Wild", "Odyssey", "Origins", "Remastered", "Returns",
+            "Revelations", "Chronicles", "Legends", "Reborn", "Awakening", "Twilight", "Shadows", "Eternal",
+            "世界", "Director's Cut", "Deluxe", "Ultimate", "Frontier", "Rising", "Zero", "Nightfall", "Genesis",
+            "Heroes", "Kingdom", "Ascension", "Echoes", "Requiem", "Tactics", "Arena", "Sunshine", "Wild Hunt", "II"};
+    private static final String[] SYLLABLES = {"ka", "zu", "mo", "ri", "ten", "gar", "vel", "os",
+            "qui", "lan", "dre", "xo", "bel", "ny", "tor", "ash"};
+
+    private BenchData() { }
+
+    /** game number id */
+    static Game game(int id) {
+        return new Game(id, "Benchmark Game " + id, PLATFORMS[id % PLATFORMS.length], STATUSES[id % STATUSES.length],
+                1 + (id * 7) % 5, OWNERSHIPS[(id / 3) % OWNERSHIPS.length]);
+    }
+
+    /** real-looking name of game number id ("Metroid: Origins Kazumo") */
+    static String title(int id) {
+        String word = SYLLABLES[id & 15] + SYLLABLES[(id >> 4) & 15] + SYLLABLES[(id >> 8) & 15];
+        return SERIES[id % SERIES.length] + ": " + SUBTITLES[(id / SERIES.length) % SUBTITLES.length] + " "
+                + Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /** game(id) named title(id) */
+    static Game titled(int id) {
+        Game g = game(id);
+        g.setName(title(id));
+        return g;
+    }
+
+    /** games first .. first + count - 1 */
+    static List<Game> games(int first, int count) {
+        List<Game> out = new ArrayList<>(count);
+        for (int id = first; id < first + count; id++) out.add(game(id));
+        return out;
+    }
+
+    /** ids from .. to - 1 */
+    static int[] range(int from, int to) {
+        int[] ids = new int[Math.max(0, to - from)];
+        for (int i = 0; i < ids.length; i++) ids[i] = from + i;
+        return ids;
+    }
+
+    /** id|name|platform|status|priority|ownership file with games 1..size (built on first use) */
+    static Path gamesFile(int size) throws IOException {
+        return gamesFile(size, false);
+    }
+
+    /** gamesFile, with titled(id) instead of game(id) when titles is true */
+    static Path gamesFile(int size, boolean titles) throws IOException {
+        Path file = CACHE.resolve((titles ? "titled-" : "games-") + size + ".txt");
+        if (Files.exists(file)) return file;
+        Files.createDirectories(CACHE);
+        Path temp = Files.createTempFile(CACHE, "games-", ".tmp");
+        try (BufferedWriter w = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (int id = 1; id <= size; id++) {
+                Game g = titles ? titled(id) : game(id);
+                w.write(g.getId() + "|" + g.getName() + "|" + g.getPlatform() + "|" + g.getStatus() + "|"
+                        + g.getPriority() + "|" + g.getOwnership());
+                w.newLine();
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return file;
+    }
+
+    /**
+     * A new temp folder holding DB_NAME with games 1..size (and its snapshot). The seeded
+     * database is imported once and copied after that; delete the folder when done.
+     */
+    static Path copyOfSeeded(int size) throws IOException {
+        return copyOfSeeded(size, false);
+    }
+
+    /** copyOfSeeded, with the titled games when titles is true */
+    static Path copyOfSeeded(int size, boolean titles) throws IOException {
+        Path seeded = CACHE.resolve((titles ? "seeded-titled-" : "seeded-") + size);
+        if (!Files.exists(seeded.resolve(DB_NAME))) {
+            Path building = Files.createTempDirectory(CACHE, "seeding-");
+            try (DbLibrary library = new DbLibrary(building.resolve(DB_NAME).toString())) {
+                String result = library.importFromFile(gamesFile(size, titles));
+                if (library.count() != size) throw new IllegalStateException("seeding failed: " + result);
+            }
+            delete(seeded);
+            Files.move(building, seeded, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Path copy = Files.createTempDirectory("checkpoint-jmh");
+        try (Stream<Path> files = Files.list(seeded)) {
+            for (Path f : files.toList()) Files.copy(f, copy.resolve(f.getFileName()));
+        }
+        return copy;
+    }
+
+    /**
+     * Puts count games (from id first) straight into Library_OLD's list. Its add() scans every game for a
+     * duplicate id first, so filling 1M games through it would take hours.
+     */
+    @SuppressWarnings("unchecked")
+    static void fill(Library_OLD library, int first, int count) {
+        try {
+            Field games = Library_OLD.class.getDeclaredField("games");
+            games.setAccessible(true);
+            ((List<Game>) games.get(library)).addAll(games(first, count));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Library_OLD has no games list to fill", e);
+        }
+    }
+
+    /** deletes a folder and everything in it (nothing if it is not there) */
+    static void delete(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) return;
+        try (Stream<Path> all = Files.walk(dir)) {
+            for (Path p : all.sorted(Comparator.reverseOrder()).toList()) Files.delete(p);
+        }
+    }
+} // END BENCHDATA
@@ -0,0 +1,98 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * DbLibrarySubject.java
+ * ---------------------------------
+ * DbLibrary as a benchmark Subject: a default-profile, EAGER library on a temp SQLite file
+ */
+
+import checkpoint.bench.Subject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public class DbLibrarySubject implements Subject {
+
+    private Path dir; // temp folder with the database (deleted by close)
+    private Path file; // games to import
+    private DbLibrary library;
+
+    @Override
+    public void seed(int size) throws IOException {
+        dir = BenchData.copyOfSeeded(size);
+        library = new DbLibrary(dir.resolve(BenchData.DB_NAME).toString());
+    }
+
+    @Override
+    public void seedTitles(int size) throws IOException {
+        dir = BenchData.copyOfSeeded(size, true);
+        library = new DbLibrary(dir.resolve(BenchData.DB_NAME).toString());
+    }
+
+    @Override
+    public void prepareImport(int size) throws IOException {
+        file = BenchData.gamesFile(size);
+        dir = Files.createTempDirectory("checkpoint-jmh");
+        library = new DbLibrary(dir.resolve(BenchData.DB_NAME).toString());
+    }
+
+    @Override
+    public String importGames() {
+        return library.importFromFile(file);
+    }
+
+    @Override
+    public Optional<Game> findById(int id) {
+        return library.findById(id);
+    }
+
+    @Override
+    public String updateField(int id, String field, String newValue) {
+        return library.updateField(id, field, newValue);
+    }
+
+    @Override
+    public String backlogReport(int topNumber) {
+        return library.backlogReport(topNumber);
+    }
+
+    @Override
+    public String add(int id) {
+        return library.add(BenchData.game(id));
+    }
+
+    @Override
+    public String remove(int id) {
+        return library.remove(id);
+    }
+
+    @Override
+    public void addRange(int from, int to) {
+        library.addAll(BenchData.games(from, to - from));
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        library.removeAll(BenchData.range(from, to));
+    }
+
+    @Override
+    public List<Game> searchByName(String query, int limit) {
+        return library.searchByName(query, limit);
+    }
+
+    @Override
+    public int count() {
+        return library.count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (library != null) library.close();
+        BenchData.delete(dir);
+    }
+} // END DBLIBRARYSUBJECT
@@ -0,0 +1,82 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * LibraryOldSubject.java
+ * ---------------------------------
+ * Library_OLD as a benchmark Subject: the baseline, everything in one in-memory list
+ */
+
+import checkpoint.bench.Subject;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class LibraryOldSubject implements Subject {
+
+    private Path file; // games to import
+    private Library_OLD library;
+
+    @Override
+    public void seed(int size) {
+        library = new Library_OLD();
+        BenchData.fill(library, 1, size);
+    }
+
+    @Override
+    public void prepareImport(int size) throws IOException {
+        file = BenchData.gamesFile(size);
+        library = new Library_OLD();
+    }
+
+    @Override
+    public String importGames() {
+        return library.importFromFile(file);
+    }
+
+    @Override
+    public Optional<Game> findById(int id) {
+        return library.findById(id);
+    }
+
+    @Override
+    public String updateField(int id, String field, String newValue) {
+        return library.updateField(id, field, newValue);
+    }
+
+    @Override
+    public String backlogReport(int topNumber) {
+        return library.backlogReport(topNumber);
+    }
+
+    @Override
+    public String add(int id) {
+        return library.add(BenchData.game(id));
+    }
+
+    @Override
+    public String remove(int id) {
+        return library.remove(id);
+    }
+
+    @Override
+    public void addRange(int from, int to) {
+        BenchData.fill(library, from, to - from);
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        for (int id = to - 1; id >= from; id--) library.remove(id); // newest first: they sit at the end of the list
+    }
+
+    @Override
+    public int count() {
+        return library.listAll().size();
+    }
+
+    @Override
+    public void close() {
+        library = null;
+    }
+} // END LIBRARYOLDSUBJECT
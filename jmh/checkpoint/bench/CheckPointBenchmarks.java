@@ -0,0 +1,134 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * CheckPointBenchmarks.java
+ * ---------------------------------
+ * Runs DbLibraryBench, LibraryOldBench and SearchBench and saves the results under jmh/results/
+ *   <label>.json  JMH's own JSON (loads into any JMH results viewer)
+ *   <label>.csv   one line per benchmark and size, easy to diff between versions
+ * With --baseline <older .csv> it also prints how each score moved and exits with 1 on a regression
+ * --quick runs 1k games with one short iteration each: a check that everything runs, not numbers to keep
+ * Run from the project folder:
+ *   java -cp out:jmh-out:sqlite-jdbc-3.50.3.0.jar:<jmh jars> checkpoint.bench.CheckPointBenchmarks
+ *        [label] [--baseline file.csv] [--only regex] [--quick]
+ */
+
+package checkpoint.bench;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CheckPointBenchmarks {
+
+    static final Path RESULTS = Path.of("jmh", "results");
+    static final String CSV_HEADER = "benchmark,size,mode,unit,score,error";
+
+    // a score this much worse than the baseline (and outside both error bars) counts as a regression
+    static final double REGRESSION = 1.10;
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        String label = LocalDate.now().toString();
+        Path baseline = null;
+        String only = "DbLibraryBench|LibraryOldBench|SearchBench";
+        boolean quick = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline" -> baseline = Path.of(args[++i]);
+                case "--only" -> only = args[++i];
+                case "--quick" -> quick = true;
+                default -> label = args[i];
+            }
+        }
+
+        Files.createDirectories(RESULTS);
+        Path json = RESULTS.resolve(label + ".json");
+        Path csv = RESULTS.resolve(label + ".csv");
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(only)
+                .resultFormat(ResultFormatType.JSON)
+                .result(json.toString());
+        if (quick) {
+            options.param("size", "1000")
+                    .warmupIterations(1).warmupTime(TimeValue.milliseconds(200))
+                    .measurementIterations(1).measurementTime(TimeValue.milliseconds(200));
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        Files.write(csv, summary(results), StandardCharsets.UTF_8);
+        System.out.println("📊 Results: " + json + " and " + csv);
+
+        if (baseline != null && compare(read(baseline), read(csv)) > 0) System.exit(1);
+    }
+
+    //Helpers
+
+    /** CSV_HEADER, then one line per result */
+    private static List<String> summary(Collection<RunResult> results) {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (RunResult r : results) {
+            Result<?> score = r.getPrimaryResult();
+            String name = r.getParams().getBenchmark();
+            lines.add(String.join(",",
+                    name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1), // Class.method
+                    r.getParams().getParam("size"),
+                    r.getParams().getMode().shortLabel(),
+                    score.getScoreUnit(),
+                    Double.toString(score.getScore()),
+                    Double.toString(Double.isNaN(score.getScoreError()) ? 0 : score.getScoreError())));
+        }
+        return lines;
+    }
+
+    /** benchmark,size -> {score, error}, from a file summary() wrote */
+    private static Map<String, double[]> read(Path csv) throws IOException {
+        Map<String, double[]> scores = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(CSV_HEADER)) throw new IOException("not a results file: " + csv);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] f = line.split(",");
+            scores.put(f[0] + "," + f[1], new double[]{Double.parseDouble(f[4]), Double.parseDouble(f[5])});
+        }
+        return scores;
+    }
+
+    /**
+     * Prints every benchmark both files have, with now/before (every mode here measures time,
+     * so above 1 is slower). Returns how many got slower by more than REGRESSION.
+     */
+    private static int compare(Map<String, double[]> before, Map<String, double[]> now) {
+        int regressions = 0;
+        System.out.printf("%n%-36s %10s %14s %14s %8s%n", "benchmark", "size", "before", "now", "ratio");
+        for (Map.Entry<String, double[]> e : now.entrySet()) {
+            double[] old = before.get(e.getKey());
+            if (old == null) continue;
+            double[] cur = e.getValue();
+            double ratio = cur[0] / old[0];
+            boolean slower = ratio > REGRESSION && cur[0] - cur[1] > old[0] + old[1];
+            if (slower) regressions++;
+            String[] key = e.getKey().split(",");
+            System.out.printf("%-36s %10s %14.3f %14.3f %7.2fx%s%n", key[0], key[1], old[0], cur[0], ratio,
+                    slower ? "  ⚠️ slower" : "");
+        }
+        System.out.println(regressions == 0 ? "✅ No regressions" : "❌ " + regressions + " regression(s)");
+        return regressions;
+    }
+} // END CHECKPOINTBENCHMARKS
@@ -0,0 +1,162 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * DbLibraryBench.java
+ * ---------------------------------
+ * JMH timings of DbLibrary's hot paths on a temp SQLite file holding 1k, 100k or 1M games
+ * LibraryOldBench runs the same operations on the old in-memory list as the baseline
+ * Run through CheckPointBenchmarks (see README "Benchmarks")
+ */
+
+package checkpoint.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findById, updateField and backlogReport report the average time per call. add and remove
+ * use ids up (or make new ones), so they are timed as batches of BATCH calls with the library
+ * put back to its size in between; importFromFile is timed once per iteration into an empty file.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DbLibraryBench {
+
+    static final String SUBJECT = "DbLibrarySubject";
+
+    /** calls per timed add/remove batch */
+    static final int BATCH = 1_000;
+
+    static final String[] PRIORITIES = {"1", "2", "3", "4", "5"};
+
+    /** a copy of the seeded database for this size, open for the whole trial */
+    @State(Scope.Benchmark)
+    public static class Seeded {
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+
+        Subject library;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            library = Subject.of(SUBJECT);
+            library.seed(size);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            library.close();
+        }
+    }
+
+    /** add takes ids above size; they are removed again after every iteration */
+    @State(Scope.Benchmark)
+    public static class Growing extends Seeded {
+        int next;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            next = size + 1;
+        }
+
+        @TearDown(Level.Iteration)
+        public void shrink() {
+            library.removeRange(size + 1, next);
+        }
+    }
+
+    /** BATCH games above size are added before every iteration for remove to take away */
+    @State(Scope.Benchmark)
+    public static class Shrinking extends Seeded {
+        int next;
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            library.addRange(size + 1, size + 1 + BATCH);
+            next = size + 1;
+        }
+    }
+
+    /** an empty library for every iteration, importing the file of games 1..size */
+    @State(Scope.Benchmark)
+    public static class Empty {
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+
+        Subject library;
+
+        @Setup(Level.Iteration)
+        public void open() throws IOException {
+            library = Subject.of(SUBJECT);
+            library.prepareImport(size);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            int imported = library.count();
+            library.close();
+            if (imported != size) throw new IllegalStateException("imported " + imported + " of " + size);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object findById(Seeded s) {
+        return s.library.findById(randomId(s.size));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String updateField(Seeded s) {
+        int id = randomId(s.size);
+        return s.library.updateField(id, "priority", PRIORITIES[id % PRIORITIES.length]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String backlogReport(Seeded s) {
+        return s.library.backlogReport(10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = BATCH)
+    @Measurement(iterations = 5, batchSize = BATCH)
+    public String add(Growing s) {
+        return s.library.add(s.next++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = BATCH)
+    @Measurement(iterations = 5, batchSize = BATCH)
+    public String remove(Shrinking s) {
+        return s.library.remove(s.next++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public String importFromFile(Empty s) {
+        return s.library.importGames();
+    }
+
+    //Helpers
+
+    /** an id between 1 and size */
+    static int randomId(int size) {
+        return 1 + ThreadLocalRandom.current().nextInt(size);
+    }
+} // END DBLIBRARYBENCH
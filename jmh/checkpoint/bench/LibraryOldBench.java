@@ -0,0 +1,149 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * LibraryOldBench.java
+ * ---------------------------------
+ * Baseline for DbLibraryBench: the same operations on Library_OLD's plain in-memory list
+ * Same sizes, modes and batches, so each DbLibraryBench line has a line here to compare with
+ * Run through CheckPointBenchmarks (see README "Benchmarks")
+ */
+
+package checkpoint.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timed exactly like DbLibraryBench. importFromFile only runs at 1k and 100k: Library_OLD checks
+ * every row's id against all the games read so far, so importing 1M games would take hours.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LibraryOldBench {
+
+    static final String SUBJECT = "LibraryOldSubject";
+
+    /** a Library_OLD holding games 1..size for the whole trial */
+    @State(Scope.Benchmark)
+    public static class Seeded {
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+
+        Subject library;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            library = Subject.of(SUBJECT);
+            library.seed(size);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            library.close();
+        }
+    }
+
+    /** add takes ids above size; they are removed again after every iteration */
+    @State(Scope.Benchmark)
+    public static class Growing extends Seeded {
+        int next;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            next = size + 1;
+        }
+
+        @TearDown(Level.Iteration)
+        public void shrink() {
+            library.removeRange(size + 1, next);
+        }
+    }
+
+    /** DbLibraryBench.BATCH games above size are added before every iteration for remove to take away */
+    @State(Scope.Benchmark)
+    public static class Shrinking extends Seeded {
+        int next;
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            library.addRange(size + 1, size + 1 + DbLibraryBench.BATCH);
+            next = size + 1;
+        }
+    }
+
+    /** an empty library for every iteration, importing the file of games 1..size */
+    @State(Scope.Benchmark)
+    public static class Empty {
+        @Param({"1000", "100000"})
+        public int size;
+
+        Subject library;
+
+        @Setup(Level.Iteration)
+        public void open() throws IOException {
+            library = Subject.of(SUBJECT);
+            library.prepareImport(size);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            int imported = library.count();
+            library.close();
+            if (imported != size) throw new IllegalStateException("imported " + imported + " of " + size);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object findById(Seeded s) {
+        return s.library.findById(DbLibraryBench.randomId(s.size));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String updateField(Seeded s) {
+        int id = DbLibraryBench.randomId(s.size);
+        return s.library.updateField(id, "priority", DbLibraryBench.PRIORITIES[id % DbLibraryBench.PRIORITIES.length]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String backlogReport(Seeded s) {
+        return s.library.backlogReport(10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = DbLibraryBench.BATCH)
+    @Measurement(iterations = 5, batchSize = DbLibraryBench.BATCH)
+    public String add(Growing s) {
+        return s.library.add(s.next++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = DbLibraryBench.BATCH)
+    @Measurement(iterations = 5, batchSize = DbLibraryBench.BATCH)
+    public String remove(Shrinking s) {
+        return s.library.remove(s.next++);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public String importFromFile(Empty s) {
+        return s.library.importGames();
+    }
+
+} // END LIBRARYOLDBENCH
@@ -0,0 +1,83 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * SearchBench.java
+ * ---------------------------------
+ * JMH timings of DbLibrary.searchByName over 1k, 100k or 1M real-looking titles
+ * (BenchData.title: 1 name in 24 has "Zelda" in it, so "zelda" has ~41k matches at 1M)
+ * Run through CheckPointBenchmarks (see README "Benchmarks")
+ */
+
+package checkpoint.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every call asks for SEARCH_LIMIT games, like the Swing search dialog. The trigram index is
+ * built by one search in the setup, so only lookups are timed.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBench {
+
+    /** what CheckPointSwing's search dialog asks for */
+    static final int SEARCH_LIMIT = 50;
+
+    /** a copy of the titled database for this size, open (with its name index) for the whole trial */
+    @State(Scope.Benchmark)
+    public static class Titled {
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+
+        Subject library;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            library = Subject.of(DbLibraryBench.SUBJECT);
+            library.seedTitles(size);
+            library.searchByName("zelda", 1); // builds the index
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            library.close();
+        }
+    }
+
+    /** one word that starts a word in many names ("The Legend of Zelda: ...") */
+    @Benchmark
+    public Object searchWord(Titled s) {
+        return s.library.searchByName("zelda", SEARCH_LIMIT);
+    }
+
+    /** the start of every one of those names */
+    @Benchmark
+    public Object searchPrefix(Titled s) {
+        return s.library.searchByName("the legend of zelda", SEARCH_LIMIT);
+    }
+
+    /** two letters: only names with a word starting "ze" */
+    @Benchmark
+    public Object searchShort(Titled s) {
+        return s.library.searchByName("ze", SEARCH_LIMIT);
+    }
+
+    /** two words next to each other, ~1.3k matches at 1M */
+    @Benchmark
+    public Object searchPhrase(Titled s) {
+        return s.library.searchByName("zelda origins", SEARCH_LIMIT);
+    }
+
+    /** words that are all in many names, never next to each other: no match */
+    @Benchmark
+    public Object searchNoMatch(Titled s) {
+        return s.library.searchByName("legend zelda wild", SEARCH_LIMIT);
+    }
+} // END SEARCHBENCH
@@ -0,0 +1,68 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * Subject.java
+ * ---------------------------------
+ * One library under benchmark (DbLibrary or Library_OLD), as the JMH benchmarks see it
+ * JMH only accepts benchmarks in a named package, and a named package cannot import
+ * CheckPoint's classes (they are in the default package), so small default-package
+ * adapters (DbLibrarySubject, LibraryOldSubject) implement this and are loaded by name
+ */
+
+package checkpoint.bench;
+
+import java.io.IOException;
+
+public interface Subject extends AutoCloseable {
+
+    /** the adapter class named className (default package), loaded once in a setup method */
+    static Subject of(String className) {
+        try {
+            return (Subject) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("no benchmark subject " + className + " on the classpath", e);
+        }
+    }
+
+    /** opens a library holding the made-up games 1..size */
+    void seed(int size) throws IOException;
+
+    /** opens an empty library; importGames() then reads the file of games 1..size */
+    void prepareImport(int size) throws IOException;
+
+    String importGames();
+
+    Object findById(int id);
+
+    String updateField(int id, String field, String newValue);
+
+    String backlogReport(int topNumber);
+
+    /** adds made-up game number id */
+    String add(int id);
+
+    String remove(int id);
+
+    /** adds made-up games from .. to - 1 (not timed, so it may take shortcuts) */
+    void addRange(int from, int to);
+
+    /** removes games from .. to - 1 (not timed) */
+    void removeRange(int from, int to);
+
+    int count();
+
+    /** opens a library holding games 1..size with real-looking names, for the search benchmark */
+    default void seedTitles(int size) throws IOException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " has no name search");
+    }
+
+    /** up to limit games whose name contains query, best match first */
+    default Object searchByName(String query, int limit) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " has no name search");
+    }
+
+    /** closes the library and deletes any files it made */
+    @Override
+    void close() throws IOException;
+} // END SUBJECT
@@ -22,6 +22,12 @@ public class App {
     // It starts as null until the user supplies a database path.
     private DbLibrary library = null;
 
+    // rows per listPage call when displaying
+    private static final int DISPLAY_PAGE = 500;
+
+    // most matches a search shows
+    private static final int SEARCH_LIMIT = 25;
+
     /**
      * method: main
      * parameters: args: String[]
@@ -44,7 +50,8 @@ public class App {
         boolean running = true;
         while (running) {
             showMenu();
-            int choice = readIntInRange("Choose an option", 0, 6);
+            int choice = readIntInRange("Choose an option", 0, 9);
+            if (library != null) library.sync(); // pick up edits made in the GUI (or another App) meanwhile
             switch (choice) {
                 case 1 -> handleConnect();     // NEW: user supplies DB path here
                 case 2 -> handleDisplay();
@@ -52,7 +59,11 @@ public class App {
                 case 4 -> handleRemove();
                 case 5 -> handleUpdate();
                 case 6 -> handleCustomFeature();
+                case 7 -> handleSearch();
+                case 8 -> handleFilter();
+                case 9 -> handleExport();
                 case 0 -> {
+                    if (library != null) library.close(); // release the SQLite connection
                     println("Goodbye!");
                     running = false;
                 }
@@ -73,6 +84,9 @@ public class App {
                 4) Remove a game record
                 5) Update a game record
                 6) Custom: Backlog score & stats
+                7) Search games by name
+                8) Filter games (status, platform, priority…)
+                9) Export games to a file (list, CSV, JSON Lines)
                 0) Exit
                 ---------------------------""");
     }
@@ -97,7 +111,9 @@ public class App {
                     println("⚠️  The folder '" + p.getParent() + "' does not exist. Try again.");
                     continue;
                 }
-                library = new DbLibrary(pathStr);
+                DbLibrary next = new DbLibrary(pathStr, DbLibrary.LoadMode.PAGED); // rows load only when needed
+                if (library != null) library.close(); // done with the old database
+                library = next;
                 println("✅ Connected to database: " + pathStr);
                 // Show what’s inside right away so user sees it’s working.
                 handleDisplay();
@@ -113,16 +129,21 @@ public class App {
      * parameters: none
      * return: void
      * purpose: Show all records from the database (or a friendly message if none).
+     *          Reads DISPLAY_PAGE rows at a time so a huge database never sits in one list.
      */
     private void handleDisplay() {
         if (!ensureConnected()) return;
-        List<Game> all = library.listAll();
-        if (all.isEmpty()) {
+        List<Game> page = library.listPage(0, DISPLAY_PAGE);
+        if (page.isEmpty()) {
             println("(no records yet)");
             return;
         }
         println("\nCurrent Library:");
-        for (Game game : all) println(game.toString());
+        while (!page.isEmpty()) {
+            for (Game game : page) println(game.toString());
+            if (page.size() < DISPLAY_PAGE) break;
+            page = library.listPage(page.get(page.size() - 1).getId(), DISPLAY_PAGE);
+        }
     }
 
     /**
@@ -168,7 +189,7 @@ public class App {
      * method: handleUpdate
      * parameters: none
      * return: void
-     * purpose: Lets the user update any single field safely.
+     * purpose: Lets the user update one or more fields (id included) and saves them together.
      */
     private void handleUpdate() {
         if (!ensureConnected()) return;
@@ -184,24 +205,30 @@ public class App {
             return;
         }
 
-        println("Fields: name, platform, status, priority, ownership");
-        String field = readNonEmpty("Which field?");
-
-        String value;
-        if (field.equalsIgnoreCase("status")) {
-            value = readEnum("New status [UNPLAYED, PLAYING, BEATEN]", Game.Status.class).name();
-        } else if (field.equalsIgnoreCase("ownership")) {
-            value = readEnum("New ownership [PHYSICAL, DIGITAL]", Game.Ownership.class).name();
-        } else if (field.equalsIgnoreCase("priority")) {
-            value = String.valueOf(readIntInRange("New priority (1-5)", 1, 5));
-        } else if (field.equalsIgnoreCase("name") || field.equalsIgnoreCase("platform")) {
-            value = readNonEmpty("New value");
-        } else {
-            println("❌ Unknown field.");
-            return;
+        println("Current: " + library.findById(id).get());
+        println("Fields: id, name, platform, status, priority, ownership");
+        String fields = readNonEmpty("Which fields? (comma separated, e.g. status,priority)");
+
+        // Collect every new value first, then save them all in one update
+        GameChanges changes = new GameChanges();
+        for (String raw : fields.split(",")) {
+            String field = raw.trim().toLowerCase(Locale.ROOT);
+            switch (field) {
+                case "id"        -> changes.id(readPositiveInt("New id (>0)"));
+                case "name"      -> changes.name(readNonEmpty("New name"));
+                case "platform"  -> changes.platform(readNonEmpty("New platform"));
+                case "status"    -> changes.status(readEnum("New status [UNPLAYED, PLAYING, BEATEN]", Game.Status.class));
+                case "priority"  -> changes.priority(readIntInRange("New priority (1-5)", 1, 5));
+                case "ownership" -> changes.ownership(readEnum("New ownership [PHYSICAL, DIGITAL]", Game.Ownership.class));
+                case ""          -> { }
+                default -> {
+                    println("❌ Unknown field: " + raw.trim());
+                    return;
+                }
+            }
         }
 
-        println(library.updateField(id, field, value));
+        println(library.update(id, changes));
         handleDisplay();
     }
 
@@ -217,8 +244,84 @@ public class App {
         println(library.backlogReport(topNumber));
     }
 
+    /**
+     * method: handleSearch
+     * parameters: none
+     * return: void
+     * purpose: Finds games by (part of) their name, best matches first. Case and accents do not matter.
+     */
+    private void handleSearch() {
+        if (!ensureConnected()) return;
+        String query = readNonEmpty("Search for (part of a name)");
+        List<Game> hits = library.searchByName(query, SEARCH_LIMIT);
+        if (hits.isEmpty()) {
+            println("(no games match '" + query + "')");
+            return;
+        }
+        println("\nMatches for '" + query + "'" + (hits.size() == SEARCH_LIMIT ? " (first " + SEARCH_LIMIT + ")" : "") + ":");
+        for (Game game : hits) println(game.toString());
+    }
+
+    /**
+     * method: handleFilter
+     * parameters: none
+     * return: void
+     * purpose: Builds a query from optional filters (ENTER = any) and shows the matches.
+     *          The filtering and sorting happen in SQLite (or on the in-memory indexes).
+     */
+    private void handleFilter() {
+        if (!ensureConnected()) return;
+        GameQuery query = readFilters();
+        print("Sort by score instead of id? (y/N): ");
+        if (in.nextLine().trim().equalsIgnoreCase("y")) query.orderByScore();
+        query.limit(readIntInRange("Show at most how many?", 1, 10_000));
+
+        List<Game> hits = query.list();
+        if (hits.isEmpty()) {
+            println("(no games match)");
+            return;
+        }
+        println("\n" + hits.size() + " match(es):");
+        for (Game game : hits) println(game.toString());
+    }
+
+    /**
+     * method: handleExport
+     * parameters: none
+     * return: void
+     * purpose: Writes all games (or only filtered ones) to a file in the chosen format.
+     *          Rows are streamed from SQLite; a file name ending in .gz is gzipped.
+     */
+    private void handleExport() {
+        if (!ensureConnected()) return;
+        Path file = Path.of(readNonEmpty("Export to which file? (e.g., G:/backup.csv or backup.jsonl.gz)"));
+        DbLibrary.ExportFormat format = readEnum("Format [PIPE, CSV, JSONL]", DbLibrary.ExportFormat.class);
+        print("Only some games? (y/N): ");
+        GameQuery filter = in.nextLine().trim().equalsIgnoreCase("y") ? readFilters() : null;
+        println(library.exportTo(file, format, filter));
+    }
+
     // Helpers
 
+    /**
+     * method: readFilters
+     * parameters: none
+     * return: GameQuery
+     * purpose: Asks for status, ownership, platform and minimum priority (ENTER = any).
+     */
+    private GameQuery readFilters() {
+        GameQuery query = library.query();
+        Game.Status status = readEnumOrAny("Status [UNPLAYED, PLAYING, BEATEN]", Game.Status.class);
+        if (status != null) query.status(status);
+        Game.Ownership own = readEnumOrAny("Ownership [PHYSICAL, DIGITAL]", Game.Ownership.class);
+        if (own != null) query.ownership(own);
+        print("Platform (ENTER = any): ");
+        String platform = in.nextLine().trim();
+        if (!platform.isEmpty()) query.platform(platform);
+        query.minPriority(readIntInRange("Minimum priority (1-5, 1 = any)", 1, 5));
+        return query;
+    }
+
     /**
      * method: ensureConnected
      * parameters: none
@@ -341,6 +444,25 @@ public class App {
         }
     }
 
+    /**
+     * method: readEnumOrAny
+     * parameters: String, Class
+     * return: E (null = any)
+     * purpose: Like readEnum, but ENTER means "no filter".
+     */
+    private <E extends Enum<E>> E readEnumOrAny(String prompt, Class<E> enumType) {
+        while (true) {
+            print(prompt + " (ENTER = any): ");
+            String s = in.nextLine().trim();
+            if (s.isEmpty()) return null;
+            try {
+                return Enum.valueOf(enumType, s.toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                println("Please enter one of the listed options (or just ENTER).");
+            }
+        }
+    }
+
     // Tiny wrappers to keep code tidy
     private void println(String s) { System.out.println(s); }
     private void print(String s)   { System.out.print(s); }
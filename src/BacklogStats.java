@@ -0,0 +1,211 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * BacklogStats.java
+ * ------------------------------------
+ * Running totals for the backlog report, kept up to date on every add/remove/update
+ * Status counters + one bucket per score in use (which list positions have that score)
+ * The report then only reads the few games it shows instead of the whole library
+ */
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Mirrors DbLibrary's game list position by position. Each position remembers the status and
+ * score it was counted with, so a later change can take the old values back out even if the
+ * Game object was edited somewhere else in the meantime.
+ */
+final class BacklogStats {
+
+    private static final Game.Status[] STATUSES = Game.Status.values();
+
+    private final long[] statusCounts = new long[STATUSES.length];
+
+    // scores[i] ascending, one per score some game has; buckets[i] = positions with that score
+    // (BitSet keeps them in list order). Sparse, so a strategy may hand out any int as a score.
+    private int[] scores = new int[0];
+    private BitSet[] buckets = new BitSet[0];
+    private int bucketCount;
+
+    private int[] scoreAt = new int[16];
+    private byte[] statusAt = new byte[16];
+    private int size;
+
+    /** number of games counted */
+    int size() {
+        return size;
+    }
+
+    /** how many games have this status */
+    long count(Game.Status status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    /** score counted for the game at position */
+    int scoreAt(int position) {
+        checkPosition(position);
+        return scoreAt[position];
+    }
+
+    /** counts a game appended at the end of the list */
+    void append(Game.Status status, int score) {
+        if (size == scoreAt.length) {
+            scoreAt = Arrays.copyOf(scoreAt, size * 2);
+            statusAt = Arrays.copyOf(statusAt, size * 2);
+        }
+        int position = size++;
+        scoreAt[position] = score;
+        statusAt[position] = (byte) status.ordinal();
+        statusCounts[status.ordinal()]++;
+        bucket(score).set(position);
+    }
+
+    /** the list dropped the gone positions (sorted, see ListGaps); later entries move down */
+    void removeAt(int[] gone, int count) {
+        for (int i = 0; i < count; i++) {
+            checkPosition(gone[i]);
+            statusCounts[statusAt[gone[i]]]--;
+        }
+        ListGaps.close(scoreAt, size, gone, count);
+        size = ListGaps.close(statusAt, size, gone, count);
+        for (int b = bucketCount - 1; b >= 0; b--) {
+            buckets[b] = ListGaps.close(buckets[b], gone, count);
+            if (buckets[b].isEmpty()) dropBucket(b);
+        }
+    }
+
+    /** the game at position changed its status and/or score */
+    void change(int position, Game.Status status, int score) {
+        checkPosition(position);
+        statusCounts[statusAt[position]]--;
+        statusCounts[status.ordinal()]++;
+        statusAt[position] = (byte) status.ordinal();
+        if (scoreAt[position] != score) {
+            int old = bucketIndex(scoreAt[position]);
+            buckets[old].clear(position);
+            if (buckets[old].isEmpty()) dropBucket(old);
+            bucket(score).set(position);
+            scoreAt[position] = score;
+        }
+    }
+
+    /** forgets everything */
+    void clear() {
+        Arrays.fill(statusCounts, 0);
+        scores = new int[0];
+        buckets = new BitSet[0];
+        bucketCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Writes up to n best positions (highest score first, list order for ties) and their scores.
+     * Only touches the buckets it needs, not the whole list. Returns how many were written.
+     */
+    int top(int n, int[] positionsOut, int[] scoresOut) {
+        int k = 0;
+        for (int b = bucketCount - 1; b >= 0 && k < n; b--) {
+            BitSet bucket = buckets[b];
+            for (int p = bucket.nextSetBit(0); p >= 0 && k < n; p = bucket.nextSetBit(p + 1)) {
+                positionsOut[k] = p;
+                scoresOut[k] = scores[b];
+                k++;
+            }
+        }
+        return k;
+    }
+
+    /** calls visitor for every position, best score first (full ranking with no sort) */
+    void forEachRanked(RankVisitor visitor) throws IOException {
+        int rank = 0;
+        for (int b = bucketCount - 1; b >= 0; b--) {
+            BitSet bucket = buckets[b];
+            for (int p = bucket.nextSetBit(0); p >= 0; p = bucket.nextSetBit(p + 1)) {
+                visitor.visit(++rank, p, scores[b]);
+            }
+        }
+    }
+
+    /** receives one ranked position */
+    interface RankVisitor {
+        void visit(int rank, int position, int score) throws IOException;
+    }
+
+    /**
+     * Recomputes everything from the list and compares. Returns null when it all matches,
+     * otherwise a short description of the first problem found.
+     */
+    String verify(List<Game> games, ToIntFunction<Game> scorer) {
+        if (games.size() != size) return "size " + size + " but list has " + games.size();
+        long[] expected = new long[STATUSES.length];
+        for (int p = 0; p < size; p++) {
+            Game g = games.get(p);
+            expected[g.getStatus().ordinal()]++;
+            int score = scorer.applyAsInt(g);
+            if (statusAt[p] != g.getStatus().ordinal()) return "position " + p + " (id " + g.getId() + ") status";
+            if (scoreAt[p] != score) return "position " + p + " (id " + g.getId() + ") score " + scoreAt[p] + " vs " + score;
+            if (!inBucket(score, p)) return "position " + p + " missing from score bucket " + score;
+        }
+        for (Game.Status s : STATUSES) {
+            if (expected[s.ordinal()] != statusCounts[s.ordinal()]) {
+                return s + " count " + statusCounts[s.ordinal()] + " vs " + expected[s.ordinal()];
+            }
+        }
+        long inBuckets = 0;
+        for (int b = 0; b < bucketCount; b++) {
+            if (buckets[b].isEmpty()) return "empty bucket kept for score " + scores[b];
+            inBuckets += buckets[b].cardinality();
+        }
+        if (inBuckets != size) return "buckets hold " + inBuckets + " positions, expected " + size;
+        return null;
+    }
+
+    //Helpers
+
+    /** bucket for a score, added (in score order) if no game had that score yet */
+    private BitSet bucket(int score) {
+        int i = Arrays.binarySearch(scores, 0, bucketCount, score);
+        if (i >= 0) return buckets[i];
+        i = -i - 1;
+        if (bucketCount == scores.length) {
+            int cap = Math.max(8, bucketCount * 2);
+            scores = Arrays.copyOf(scores, cap);
+            buckets = Arrays.copyOf(buckets, cap);
+        }
+        System.arraycopy(scores, i, scores, i + 1, bucketCount - i);
+        System.arraycopy(buckets, i, buckets, i + 1, bucketCount - i);
+        scores[i] = score;
+        buckets[i] = new BitSet();
+        bucketCount++;
+        return buckets[i];
+    }
+
+    /** index of the bucket for a score that is in use */
+    private int bucketIndex(int score) {
+        int i = Arrays.binarySearch(scores, 0, bucketCount, score);
+        if (i < 0) throw new IllegalStateException("no bucket for score " + score);
+        return i;
+    }
+
+    /** forgets a bucket no game is in any more (so old scores don't pile up) */
+    private void dropBucket(int i) {
+        System.arraycopy(scores, i + 1, scores, i, bucketCount - i - 1);
+        System.arraycopy(buckets, i + 1, buckets, i, bucketCount - i - 1);
+        buckets[--bucketCount] = null;
+    }
+
+    /** read-only bucket check (does not create buckets) */
+    private boolean inBucket(int score, int position) {
+        int i = Arrays.binarySearch(scores, 0, bucketCount, score);
+        return i >= 0 && buckets[i].get(position);
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) throw new IndexOutOfBoundsException("position " + position);
+    }
+} // END BACKLOGSTATS
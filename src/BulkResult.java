@@ -0,0 +1,88 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * BulkResult.java
+ * ------------------------------------
+ * What happened to each row of a DbLibrary.addAll / removeAll call
+ * One outcome per input row (same order as the input), plus counts and a one-line summary
+ */
+
+import java.util.Arrays;
+
+/**
+ * Per-row outcomes of one bulk call. If the transaction failed, every row that was going to
+ * be written is ROLLED_BACK and error() says why; nothing was changed.
+ */
+public final class BulkResult {
+
+    /** what happened to one row */
+    public enum Outcome {
+        ADDED,          // inserted
+        REMOVED,        // deleted
+        ALREADY_EXISTS, // add: a game with that id is already stored
+        NOT_FOUND,      // remove: no game with that id
+        REPEATED,       // the id came earlier in the same call (that earlier row counts)
+        INVALID,        // add: null game
+        ROLLED_BACK     // would have been written, but the transaction failed
+    }
+
+    private final int[] ids;
+    private final Outcome[] outcomes;
+    private final String error;
+
+    BulkResult(int[] ids, Outcome[] outcomes, String error) {
+        this.ids = ids;
+        this.outcomes = outcomes;
+        this.error = error;
+    }
+
+    /** number of input rows */
+    public int size() { return outcomes.length; }
+
+    /** id of input row i (0 for an INVALID row) */
+    public int id(int i) { return ids[i]; }
+
+    /** outcome of input row i */
+    public Outcome outcome(int i) { return outcomes[i]; }
+
+    /** true when the transaction committed (some rows may still have been skipped) */
+    public boolean isCommitted() { return error == null; }
+
+    /** why the transaction failed, or null */
+    public String error() { return error; }
+
+    /** how many rows ended with this outcome */
+    public int count(Outcome outcome) {
+        int n = 0;
+        for (Outcome o : outcomes) if (o == outcome) n++;
+        return n;
+    }
+
+    /** ids of the rows that ended with this outcome, in input order */
+    public int[] idsWith(Outcome outcome) {
+        int[] out = new int[count(outcome)];
+        int k = 0;
+        for (int i = 0; i < outcomes.length; i++) if (outcomes[i] == outcome) out[k++] = ids[i];
+        return out;
+    }
+
+    /** one line for the user, in the same style as the other DbLibrary messages */
+    public String summary() {
+        if (error != null) return "❌ DB error, nothing was changed (" + size() + " rows): " + error;
+        StringBuilder sb = new StringBuilder("✅ ");
+        int added = count(Outcome.ADDED);
+        int removed = count(Outcome.REMOVED);
+        if (added > 0 || removed == 0) sb.append("Added: ").append(added);
+        if (removed > 0) sb.append(added > 0 ? ", " : "").append("Removed: ").append(removed);
+        for (Outcome o : new Outcome[]{Outcome.ALREADY_EXISTS, Outcome.NOT_FOUND, Outcome.REPEATED, Outcome.INVALID}) {
+            int n = count(o);
+            if (n > 0) sb.append(", ").append(o).append(": ").append(n);
+        }
+        return sb.append(" (of ").append(size()).append(")").toString();
+    }
+
+    @Override public String toString() {
+        return summary() + " " + Arrays.toString(outcomes);
+    }
+} // END BULKRESULT
@@ -10,13 +10,16 @@
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.event.ListSelectionEvent;
-import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.JTableHeader;
 import javax.swing.text.*;
 import java.awt.*;
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * CheckPointSwing (Updated GUI Layout and Design)
@@ -42,12 +45,31 @@ public class CheckPointSwing extends JFrame {
     private JComboBox<Game.Ownership> ownershipBox;
 
     // UI: Buttons
-    private JButton connectBtn, addBtn, updateBtn, deleteBtn, clearBtn, importBtn, reportBtn;
+    private JButton connectBtn, addBtn, updateBtn, deleteBtn, clearBtn, importBtn, reportBtn, searchBtn, filterBtn;
+
+    // UI: Status bar (busy note, progress, cancel)
+    private JLabel statusLabel;
+    private JProgressBar busyBar;
+    private JButton cancelBtn;
+    private volatile AtomicBoolean importCancel; // set while an import runs
+
+    private static final int SEARCH_LIMIT = 50;  // most matches the search dialog lists
+    private static final int FILTER_LIMIT = 500; // most matches the filter dialog lists
+    private static final int SYNC_EVERY_MS = 3_000; // how often the table checks for edits made elsewhere (CLI, another window)
+    private boolean busy;    // a background task is running (EDT only)
+    private boolean syncing; // a sync check is running (EDT only)
 
     public CheckPointSwing() {
         super("CheckPoint (Swing, Database)");
 
         setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override public void windowClosing(java.awt.event.WindowEvent e) {
+                AtomicBoolean running = importCancel;
+                if (running != null) running.set(true); // import stops and rolls back its open chunk
+                if (library != null) library.close(); // release the SQLite connection
+            }
+        });
         setMinimumSize(new Dimension(1100, 600));
 
         // Root with gradient background
@@ -69,7 +91,7 @@ public class CheckPointSwing extends JFrame {
         setContentPane(root);
 
         // Table
-        tableModel = new GameTableModel(List.of());
+        tableModel = new GameTableModel(); // rows are read from the database a page at a time
         table = new JTable(tableModel);
         styleTable(table);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -87,10 +109,16 @@ public class CheckPointSwing extends JFrame {
         JPanel buttons = buildTopBar();
         root.add(buttons, BorderLayout.NORTH);
 
+        // Status (bottom)
+        root.add(buildStatusBar(), BorderLayout.SOUTH);
+
         pack();
         setLocationRelativeTo(null);
         setVisible(true);
 
+        // Pick up edits made by the CLI (or another window) on the same database
+        new Timer(SYNC_EVERY_MS, e -> syncInBackground()).start();
+
         // Ask the user to pick a database at startup
         connectToDb();
     }
@@ -207,6 +235,8 @@ public class CheckPointSwing extends JFrame {
         clearBtn   = modernButton("Clear Form", new Color(62, 64, 74));
         importBtn  = modernButton("Import From File", new Color(98, 91, 160));
         reportBtn  = modernButton("CheckPoint Report", new Color(80, 130, 100));
+        searchBtn  = modernButton("Search…", new Color(62, 64, 74));
+        filterBtn  = modernButton("Filter…", new Color(62, 64, 74));
 
         connectBtn.addActionListener(e -> connectToDb());
         addBtn.addActionListener(e -> onAdd());
@@ -215,6 +245,8 @@ public class CheckPointSwing extends JFrame {
         clearBtn.addActionListener(e -> clearForm());
         importBtn.addActionListener(e -> onImport());
         reportBtn.addActionListener(e -> onReport());
+        searchBtn.addActionListener(e -> onSearch());
+        filterBtn.addActionListener(e -> onFilter());
 
         bar.add(connectBtn);
         bar.add(addBtn);
@@ -223,11 +255,42 @@ public class CheckPointSwing extends JFrame {
         bar.add(clearBtn);
         bar.add(importBtn);
         bar.add(reportBtn);
+        bar.add(searchBtn);
+        bar.add(filterBtn);
 
         setControlsEnabled(false); // disabled until a database is connected
         return bar;
     }
 
+    /**
+     * Status line + spinner while SQLite works in the background (Cancel only for imports).
+     */
+    private JPanel buildStatusBar() {
+        JPanel bar = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0)) {
+            @Override public boolean isOpaque() { return false; }
+        };
+
+        statusLabel = label("Not connected");
+        busyBar = new JProgressBar();
+        busyBar.setIndeterminate(true);
+        busyBar.setPreferredSize(new Dimension(160, 14));
+        busyBar.setVisible(false);
+        cancelBtn = modernButton("Cancel Import", new Color(170, 60, 60));
+        cancelBtn.setVisible(false);
+        cancelBtn.addActionListener(e -> {
+            AtomicBoolean running = importCancel;
+            if (running == null) return;
+            running.set(true);
+            cancelBtn.setEnabled(false);
+            statusLabel.setText("Cancelling… (rolling back the chunk in progress)");
+        });
+
+        bar.add(busyBar);
+        bar.add(statusLabel);
+        bar.add(cancelBtn);
+        return bar;
+    }
+
     /**
      * Build the form for game fields.
      */
@@ -293,29 +356,35 @@ public class CheckPointSwing extends JFrame {
 
     private void onAdd() {
         if (!ensureConnected()) return;
+        Game g;
         try {
             int id = requirePositive(parseIntStrict(idField.getText(), "ID"), "ID");
-            ensureUniqueIdOnCreate(id);
-
             String name = requireNonEmpty(nameField.getText(), "Name");
             String platform = requireNonEmpty(platformField.getText(), "Platform");
             Game.Status status = requireSelected((Game.Status) statusBox.getSelectedItem(), "Status");
             int priority = requirePriority(parseIntStrict(priorityField.getText(), "Priority"));
             Game.Ownership ownership = requireSelected((Game.Ownership) ownershipBox.getSelectedItem(), "Ownership");
+            g = new Game(id, name, platform, status, priority, ownership);
+        } catch (Exception ex) {
+            showError("Invalid input", ex.getMessage());
+            return;
+        }
 
-            Game g = new Game(id, name, platform, status, priority, ownership);
-            String msg = library.add(g);
-            if (msg.startsWith("❌")) {
-                showError("Add failed", msg);
+        DbLibrary lib = library;
+        runInBackground("Adding game " + g.getId() + "…", "Add failed", () -> {
+            if (lib.findById(g.getId()).isPresent()) {
+                throw new IllegalArgumentException("That ID already exists. Choose a different ID.");
+            }
+            return change(lib, lib.add(g), g.getId());
+        }, c -> {
+            showChange(c);
+            if (c.failed()) {
+                showError("Add failed", c.message());
                 return;
             }
-            refreshTable();
-            selectGameInTable(id);
-            showInfo("Add", msg);
+            showInfo("Add", c.message());
             clearFormKeepSelection();
-        } catch (Exception ex) {
-            showError("Invalid input", ex.getMessage());
-        }
+        });
     }
 
     private void onUpdate() {
@@ -329,6 +398,8 @@ public class CheckPointSwing extends JFrame {
         Game sel = tableModel.getAt(idx);
         if (sel == null) return;
 
+        int oldId = sel.getId();
+        Game updated;
         try {
             int newId = requirePositive(parseIntStrict(idField.getText(), "ID"), "ID");
             String name = requireNonEmpty(nameField.getText(), "Name");
@@ -336,37 +407,23 @@ public class CheckPointSwing extends JFrame {
             Game.Status status = requireSelected((Game.Status) statusBox.getSelectedItem(), "Status");
             int priority = requirePriority(parseIntStrict(priorityField.getText(), "Priority"));
             Game.Ownership ownership = requireSelected((Game.Ownership) ownershipBox.getSelectedItem(), "Ownership");
-
-            if (newId != sel.getId() && library.findById(newId).isPresent()) {
-                throw new IllegalArgumentException("That ID already exists. Choose a different ID.");
-            }
-
-            // Update in-memory model object (to keep the table neat)
-            sel.setId(newId);
-            sel.setName(name);
-            sel.setPlatform(platform);
-            sel.setStatus(status);
-            sel.setPriority(priority);
-            sel.setOwnership(ownership);
-
-            // Save
-            if (newId != tableModel.getAt(idx).getId()) {
-                library.remove(tableModel.getAt(idx).getId());
-                library.add(sel);
-            } else {
-                library.updateField(newId, "name", name);
-                library.updateField(newId, "platform", platform);
-                library.updateField(newId, "status", status.name());
-                library.updateField(newId, "priority", String.valueOf(priority));
-                library.updateField(newId, "ownership", ownership.name());
-            }
-
-            refreshTable();
-            selectGameInTable(newId);
-            showInfo("Update", "✅ Updated:\n" + sel);
+            updated = new Game(newId, name, platform, status, priority, ownership);
         } catch (Exception ex) {
             showError("Update failed", ex.getMessage());
+            return;
         }
+
+        DbLibrary lib = library;
+        runInBackground("Updating game " + oldId + "…", "Update failed",
+                () -> change(lib, lib.update(oldId, GameChanges.allOf(updated)), updated.getId()),
+                c -> {
+                    showChange(c);
+                    if (c.failed()) {
+                        showError("Update failed", c.message());
+                        return;
+                    }
+                    showInfo("Update", c.message());
+                });
     }
 
     private void onDelete() {
@@ -386,10 +443,15 @@ public class CheckPointSwing extends JFrame {
                 "Confirm deletion", JOptionPane.OK_CANCEL_OPTION, JOptionPane.WARNING_MESSAGE
         );
         if (res == JOptionPane.OK_OPTION) {
-            String msg = library.remove(sel.getId());
-            refreshTable();
-            clearForm();
-            showInfo("Delete", msg);
+            DbLibrary lib = library;
+            int id = sel.getId();
+            runInBackground("Deleting game " + id + "…", "Delete failed",
+                    () -> change(lib, lib.remove(id), -1),
+                    c -> {
+                        showChange(c);
+                        clearForm();
+                        showInfo("Delete", c.message());
+                    });
         }
     }
 
@@ -402,9 +464,54 @@ public class CheckPointSwing extends JFrame {
         if (res != JFileChooser.APPROVE_OPTION) return;
 
         File file = chooser.getSelectedFile();
-        String msg = library.importFromFile(file.toPath()); // writes into DB
-        refreshTable();
-        showInfo("Import", msg);
+        String[] modes = {"Add new only", "Merge (update changed)", "Mirror (merge + delete missing)"};
+        int mode = JOptionPane.showOptionDialog(this,
+                "How should rows with an existing ID be handled?", "Import mode",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, modes, modes[0]);
+        if (mode < 0) return;
+
+        DbLibrary lib = library;
+        AtomicBoolean cancel = new AtomicBoolean();
+        importCancel = cancel;
+        long started = System.nanoTime();
+        setBusy("Importing " + file.getName() + "…", true);
+
+        new SwingWorker<Change, Long>() {
+            @Override protected Change doInBackground() {
+                DbLibrary.ImportProgress progress = new DbLibrary.ImportProgress() {
+                    @Override public void rowsRead(long rows) { publish(rows); }
+                    @Override public boolean isCancelled() { return cancel.get(); }
+                };
+                String msg = switch (mode) { // writes into DB
+                    case 1 -> lib.mergeFromFile(file.toPath(), false, DbLibrary.DEFAULT_IMPORT_CHUNK, progress);
+                    case 2 -> lib.mergeFromFile(file.toPath(), true, DbLibrary.DEFAULT_IMPORT_CHUNK, progress);
+                    default -> lib.importFromFile(file.toPath(), DbLibrary.DEFAULT_IMPORT_CHUNK, progress);
+                };
+                return change(lib, msg, -1);
+            }
+
+            @Override protected void process(List<Long> counts) {
+                if (cancel.get()) return; // keep showing "Cancelling…"
+                long rows = counts.get(counts.size() - 1);
+                double seconds = Math.max(0.001, (System.nanoTime() - started) / 1e9);
+                statusLabel.setText(String.format("Importing %s… %,d rows read (%,.0f rows/s)",
+                        file.getName(), rows, rows / seconds));
+            }
+
+            @Override protected void done() {
+                importCancel = null;
+                setIdle();
+                try {
+                    Change c = get();
+                    showChange(c);
+                    showInfo("Import", c.message());
+                } catch (ExecutionException ex) {
+                    showError("Import failed", ex.getCause().getMessage());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
     }
 
     private void onReport() {
@@ -412,11 +519,17 @@ public class CheckPointSwing extends JFrame {
 
         String input = JOptionPane.showInputDialog(this, "How many priority games do you want to show? (1-10)", "5");
         if (input == null) return;
+        int n;
         try {
-            int n = parseIntStrict(input, "Top Number");
+            n = parseIntStrict(input, "Top Number");
             if (n < 1 || n > 10) throw new IllegalArgumentException("Enter a number between 1 and 10.");
-            String report = library.backlogReport(n);
+        } catch (Exception ex) {
+            showError("Invalid number", ex.getMessage());
+            return;
+        }
 
+        DbLibrary lib = library;
+        runInBackground("Building report…", "Report failed", () -> lib.backlogReport(n), report -> {
             JTextArea area = new JTextArea(report, 18, 64);
             area.setEditable(false);
             area.setFont(new Font("Consolas", Font.PLAIN, 13));
@@ -426,9 +539,86 @@ public class CheckPointSwing extends JFrame {
             JScrollPane sp = new JScrollPane(area);
             sp.setBorder(BorderFactory.createEmptyBorder());
             JOptionPane.showMessageDialog(this, sp, "📊 Backlog Health", JOptionPane.INFORMATION_MESSAGE);
-        } catch (Exception ex) {
-            showError("Invalid number", ex.getMessage());
-        }
+        });
+    }
+
+    /**
+     * Name search: lists the best matches; picking one selects its row in the table.
+     */
+    private void onSearch() {
+        if (!ensureConnected()) return;
+        String query = JOptionPane.showInputDialog(this, "Search for (part of a name):", "Search", JOptionPane.QUESTION_MESSAGE);
+        if (query == null || query.isBlank()) return;
+
+        DbLibrary lib = library;
+        runInBackground("Searching…", "Search failed", () -> lib.searchByName(query, SEARCH_LIMIT), hits -> {
+            if (hits.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "No games match '" + query + "'.", "Search", JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+            pickAndSelect(lib, "Search", hits.size() + " match(es), best first:", hits);
+        });
+    }
+
+    /**
+     * Filter dialog (ENTER/Any = no filter) run through DbLibrary.query(), so SQLite does the
+     * filtering and sorting; picking a match selects its row in the table.
+     */
+    private void onFilter() {
+        if (!ensureConnected()) return;
+
+        JComboBox<Object> statusPick = new JComboBox<>();
+        statusPick.addItem("Any");
+        for (Game.Status st : Game.Status.values()) statusPick.addItem(st);
+        JComboBox<Object> ownershipPick = new JComboBox<>();
+        ownershipPick.addItem("Any");
+        for (Game.Ownership o : Game.Ownership.values()) ownershipPick.addItem(o);
+        JTextField platformPick = new JTextField();
+        JSpinner minPriority = new JSpinner(new SpinnerNumberModel(1, 1, 5, 1));
+        JCheckBox byScore = new JCheckBox("Best score first (otherwise by id)");
+
+        JPanel panel = new JPanel(new GridLayout(0, 2, 6, 6));
+        panel.add(new JLabel("Status")); panel.add(statusPick);
+        panel.add(new JLabel("Ownership")); panel.add(ownershipPick);
+        panel.add(new JLabel("Platform (blank = any)")); panel.add(platformPick);
+        panel.add(new JLabel("Minimum priority")); panel.add(minPriority);
+        panel.add(new JLabel("Order")); panel.add(byScore);
+        if (JOptionPane.showConfirmDialog(this, panel, "Filter games", JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) return;
+
+        GameQuery query = library.query()
+                .minPriority((Integer) minPriority.getValue())
+                .limit(FILTER_LIMIT);
+        if (statusPick.getSelectedItem() instanceof Game.Status st) query.status(st);
+        if (ownershipPick.getSelectedItem() instanceof Game.Ownership o) query.ownership(o);
+        if (!platformPick.getText().isBlank()) query.platform(platformPick.getText().trim());
+        if (byScore.isSelected()) query.orderByScore();
+
+        DbLibrary lib = library;
+        runInBackground("Filtering…", "Filter failed", query::list, hits -> {
+            if (hits.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "No games match.", "Filter", JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+            String note = hits.size() == FILTER_LIMIT ? " (first " + FILTER_LIMIT + ")" : "";
+            pickAndSelect(lib, "Filter", hits.size() + " match(es)" + note + ":", hits);
+        });
+    }
+
+    /** EDT: lists hits; the one picked gets selected in the table (its row is looked up off the EDT) */
+    private void pickAndSelect(DbLibrary lib, String title, String message, List<Game> hits) {
+        JList<Game> list = new JList<>(hits.toArray(new Game[0]));
+        list.setSelectedIndex(0);
+        list.setVisibleRowCount(Math.min(hits.size(), 15));
+        JPanel panel = new JPanel(new BorderLayout(0, 6));
+        panel.add(new JLabel(message), BorderLayout.NORTH);
+        panel.add(new JScrollPane(list), BorderLayout.CENTER);
+        if (JOptionPane.showConfirmDialog(this, panel, title, JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE) != JOptionPane.OK_OPTION) return;
+        Game picked = list.getSelectedValue();
+        if (picked == null) return;
+        runInBackground("Finding row…", title + " failed",
+                () -> change(lib, "✅", picked.getId()), this::showChange);
     }
 
     // DB Connect + Guards
@@ -442,23 +632,28 @@ public class CheckPointSwing extends JFrame {
                     "No database selected. You can connect later with 'Connect DB…'.",
                     "Not connected", JOptionPane.INFORMATION_MESSAGE);
             setControlsEnabled(false);
-            tableModel.setData(List.of());
+            tableModel.setLibrary(null, 0);
             return;
         }
 
+        // on failure the old database (if any) stays connected
         String path = chooser.getSelectedFile().getAbsolutePath();
-        try {
-            library = new DbLibrary(path);  // creates table if needed
-            setControlsEnabled(true);
-            refreshTable();
+        runInBackground("Opening " + path + "…", "Connection failed", () -> {
+            DbLibrary next = new DbLibrary(path, DbLibrary.LoadMode.PAGED); // creates table if needed, loads no rows
+            try {
+                return new Opened(next, next.count());
+            } catch (RuntimeException ex) {
+                next.close();
+                throw ex;
+            }
+        }, opened -> {
+            if (library != null) library.close(); // done with the old database
+            library = opened.library();
+            tableModel.setLibrary(library, opened.rowCount());
+            setIdle();
             JOptionPane.showMessageDialog(this, "Connected to: " + path,
                     "Database", JOptionPane.INFORMATION_MESSAGE);
-        } catch (Exception ex) {
-            library = null;
-            setControlsEnabled(false);
-            tableModel.setData(List.of());
-            showError("Connection failed", ex.getMessage());
-        }
+        });
     }
 
     private boolean ensureConnected() {
@@ -476,12 +671,105 @@ public class CheckPointSwing extends JFrame {
         clearBtn.setEnabled(enabled);
         importBtn.setEnabled(enabled);
         reportBtn.setEnabled(enabled);
+        searchBtn.setEnabled(enabled);
+        filterBtn.setEnabled(enabled);
         table.setEnabled(enabled);
     }
 
-    private void refreshTable() {
-        if (library == null) { tableModel.setData(List.of()); return; }
-        tableModel.setData(library.listAll());
+    // Background Work (SQLite never runs on the EDT)
+
+    /** what an add/update/delete/import hands back to the EDT */
+    private record Change(String message, boolean failed, int rowCount, int row) { }
+
+    /** a freshly opened database and its row count */
+    private record Opened(DbLibrary library, int rowCount) { }
+
+    /**
+     * Runs work on a SwingWorker thread with the buttons off and a busy note in the status bar,
+     * then hands the result to done on the EDT. An exception from work is shown as an error.
+     */
+    private <T> void runInBackground(String busyText, String errorTitle, Callable<T> work, Consumer<T> done) {
+        setBusy(busyText, false);
+        new SwingWorker<T, Void>() {
+            @Override protected T doInBackground() throws Exception {
+                return work.call();
+            }
+
+            @Override protected void done() {
+                setIdle();
+                try {
+                    done.accept(get());
+                } catch (ExecutionException ex) {
+                    showError(errorTitle, ex.getCause().getMessage());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Timer tick: asks the library for changes made elsewhere (one PRAGMA when there are none)
+     * and reloads the table if any came in. Skipped while other work is running.
+     */
+    private void syncInBackground() {
+        DbLibrary lib = library;
+        if (lib == null || busy || syncing) return;
+        syncing = true;
+        new SwingWorker<Integer, Void>() {
+            @Override protected Integer doInBackground() {
+                return lib.sync() > 0 ? lib.count() : -1;
+            }
+
+            @Override protected void done() {
+                syncing = false;
+                try {
+                    int rowCount = get();
+                    if (rowCount < 0 || lib != library || busy) return; // nothing new, or a task will reload anyway
+                    tableModel.reload(rowCount);
+                    statusLabel.setText("🔄 Updated with changes made elsewhere");
+                } catch (ExecutionException ex) {
+                    statusLabel.setText("⚠️ Sync failed: " + ex.getCause().getMessage());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    /** worker thread: the new row count and the row showing selectId (-1 = none) */
+    private static Change change(DbLibrary lib, String message, int selectId) {
+        boolean failed = message.startsWith("❌") || message.startsWith("⚠️");
+        int row = failed || selectId <= 0 ? -1 : lib.rowIndexOf(selectId);
+        return new Change(message, failed, lib.count(), row);
+    }
+
+    /** EDT: new row count into the table (drops cached pages), then selects the row */
+    private void showChange(Change c) {
+        tableModel.reload(c.rowCount());
+        if (c.row() >= 0) {
+            table.getSelectionModel().setSelectionInterval(c.row(), c.row());
+            table.scrollRectToVisible(table.getCellRect(c.row(), 0, true));
+        }
+    }
+
+    private void setBusy(String text, boolean cancellable) {
+        busy = true;
+        connectBtn.setEnabled(false);
+        setControlsEnabled(false);
+        busyBar.setVisible(true);
+        statusLabel.setText(text);
+        cancelBtn.setEnabled(true);
+        cancelBtn.setVisible(cancellable);
+    }
+
+    private void setIdle() {
+        busy = false;
+        busyBar.setVisible(false);
+        cancelBtn.setVisible(false);
+        statusLabel.setText(library == null ? "Not connected" : "Ready");
+        connectBtn.setEnabled(true);
+        setControlsEnabled(library != null);
     }
 
     // Helpers
@@ -505,17 +793,6 @@ public class CheckPointSwing extends JFrame {
         ownershipBox.setSelectedItem(null);
     }
 
-    private void selectGameInTable(int id) {
-        for (int i = 0; i < tableModel.getRowCount(); i++) {
-            Game g = tableModel.getAt(i);
-            if (g != null && g.getId() == id) {
-                table.getSelectionModel().setSelectionInterval(i, i);
-                table.scrollRectToVisible(table.getCellRect(i, 0, true));
-                break;
-            }
-        }
-    }
-
     private JTextField makeIntegerField() {
         JTextField tf = darkField();
         ((AbstractDocument) tf.getDocument()).setDocumentFilter(new IntegersOnlyFilter());
@@ -551,12 +828,6 @@ public class CheckPointSwing extends JFrame {
         return s.trim();
     }
 
-    private void ensureUniqueIdOnCreate(int id) {
-        if (library != null && library.findById(id).isPresent()) {
-            throw new IllegalArgumentException("That ID already exists. Choose a different ID.");
-        }
-    }
-
     private void showInfo(String title, String message) {
         JOptionPane.showMessageDialog(this, message, title, JOptionPane.INFORMATION_MESSAGE);
     }
@@ -565,51 +836,6 @@ public class CheckPointSwing extends JFrame {
         JOptionPane.showMessageDialog(this, message, title, JOptionPane.ERROR_MESSAGE);
     }
 
-    // Table Model
-
-    private static class GameTableModel extends AbstractTableModel {
-        private final String[] cols = {"ID", "Name", "Platform", "Status", "Priority", "Ownership"};
-        private List<Game> data;
-
-        GameTableModel(List<Game> data) { this.data = data; }
-        void setData(List<Game> fresh) { this.data = fresh; fireTableDataChanged(); }
-
-        Game getAt(int row) {
-            if (row < 0 || row >= getRowCount()) return null;
-            return data.get(row);
-        }
-
-        @Override public int getRowCount() { return data == null ? 0 : data.size(); }
-        @Override public int getColumnCount() { return cols.length; }
-        @Override public String getColumnName(int col) { return cols[col]; }
-
-        @Override
-        public Object getValueAt(int rowIndex, int columnIndex) {
-            Game g = data.get(rowIndex);
-            return switch (columnIndex) {
-                case 0 -> g.getId();
-                case 1 -> g.getName();
-                case 2 -> g.getPlatform();
-                case 3 -> g.getStatus();
-                case 4 -> g.getPriority();
-                case 5 -> g.getOwnership();
-                default -> "";
-            };
-        }
-
-        @Override
-        public Class<?> getColumnClass(int columnIndex) {
-            return switch (columnIndex) {
-                case 0, 4 -> Integer.class;
-                case 3 -> Game.Status.class;
-                case 5 -> Game.Ownership.class;
-                default -> String.class;
-            };
-        }
-
-        @Override public boolean isCellEditable(int rowIndex, int columnIndex) { return false; }
-    }
-
     // Filter: digits only
 
     private static class IntegersOnlyFilter extends DocumentFilter {
@@ -10,263 +10,2276 @@
  */
 
 
-import java.io.BufferedReader;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 
 /**
  * SQLite-backed version of Library that still has the same API.
+ * Keeps one connection open (and its prepared statements) until close().
+ * Safe to share between threads: lookups and the report first try an optimistic read of the
+ * in-memory index, everything that writes (or uses the one JDBC connection) holds the write lock.
+ * Games handed out are never changed afterwards; an update stores a new Game object instead.
+ * close() leaves a binary snapshot ("<db file>.snapshot") that the next full load reads instead
+ * of the table, as long as nothing has written to the database in between.
+ * Every row carries a version (bound by each write, one per transaction), so sync() can pick
+ * up what other processes changed without reloading everything.
+ * With enableWriteBehind() single-game edits change memory at once and are saved a moment
+ * later in batches; anything that reads or writes SQLite saves the queue first.
  */
-public class DbLibrary {
+public class DbLibrary implements AutoCloseable {
 
-    private final List<Game> games = new ArrayList<>();
+    private static final String INSERT_SQL =
+            "INSERT INTO games(id,name,platform_id,status,priority,ownership,version) VALUES(?,?,?,?,?,?,?)";
+    private static final String INSERT_IGNORE_SQL = INSERT_SQL.replace("INSERT INTO", "INSERT OR IGNORE INTO");
+    private static final String DELETE_SQL = "DELETE FROM games WHERE id=?";
+    // same column order as INSERT_SQL (so bindGame fills 1-7), then the old id
+    private static final String UPDATE_SQL =
+            "UPDATE games SET id=?,name=?,platform_id=?,status=?,priority=?,ownership=?,version=? WHERE id=?";
+    private static final String UPSERT_SQL = INSERT_SQL
+            + " ON CONFLICT(id) DO UPDATE SET name=excluded.name, platform_id=excluded.platform_id,"
+            + " status=excluded.status, priority=excluded.priority, ownership=excluded.ownership, version=excluded.version"
+            + " WHERE (name,platform_id,status,priority,ownership)"
+            + " IS NOT (excluded.name,excluded.platform_id,excluded.status,excluded.priority,excluded.ownership)";
+
+    /** rows per commit when importing */
+    public static final int DEFAULT_IMPORT_CHUNK = 10_000;
+
+    /** write-behind: save once this many games have unsaved edits... */
+    public static final int DEFAULT_FLUSH_ROWS = 256;
+    /** ...or this long after the first unsaved edit */
+    public static final long DEFAULT_FLUSH_MILLIS = 250;
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT id,name,platform_id,status,priority,ownership FROM games ORDER BY id";
+    private static final String SELECT_ONE_SQL =
+            "SELECT id,name,platform_id,status,priority,ownership FROM games WHERE id=?";
+    private static final String SELECT_PAGE_SQL =
+            "SELECT id,name,platform_id,status,priority,ownership FROM games WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_AT_OFFSET_SQL =
+            "SELECT id,name,platform_id,status,priority,ownership FROM games ORDER BY id LIMIT ? OFFSET ?";
+    private static final String SELECT_CHANGED_SQL =
+            "SELECT id,name,platform_id,status,priority,ownership FROM games WHERE version > ? ORDER BY id";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM games";
+    private static final String COUNT_BELOW_SQL = "SELECT COUNT(*) FROM games WHERE id < ?";
+    private static final String STATUS_COUNTS_SQL = "SELECT status, COUNT(*) FROM games GROUP BY status";
+    // ScoringStrategy.DEFAULT written in SQL, for the PAGED report and queries
+    private static final String DEFAULT_SCORE_SQL =
+            "(priority * 2 + CASE status WHEN 'UNPLAYED' THEN 3 WHEN 'PLAYING' THEN 1 ELSE 0 END)";
+    private static final String TOP_BY_DEFAULT_SCORE_SQL =
+            "SELECT id,name,platform_id,status,priority,ownership FROM games ORDER BY " + DEFAULT_SCORE_SQL + " DESC, id LIMIT ?";
+
+    // rows pulled from SQLite per round trip while reading a page
+    private static final int PAGE_FETCH_SIZE = 512;
+
+    // how often (in lines read) an import reports progress and checks for cancel
+    static final int PROGRESS_EVERY = 4_096;
+
+    /** told how far an import has got (every PROGRESS_EVERY lines and at the end); can stop it */
+    public interface ImportProgress {
+        ImportProgress NONE = rowsRead -> { };
+
+        void rowsRead(long rowsRead);
+
+        /** true stops the import: the chunk in progress is rolled back, committed chunks stay */
+        default boolean isCancelled() { return false; }
+    }
+
+    /**
+     * EAGER loads every row when the library opens; PAGED loads nothing until it is needed;
+     * COMPACT loads every row into a column store (GameColumns) and builds Games only when read
+     */
+    public enum LoadMode { EAGER, PAGED, COMPACT }
+
+    /**
+     * exportTo file formats: PIPE is the id|name|platform|status|priority|ownership list that
+     * importFromFile reads; CSV has a header row and RFC 4180 quoting; JSONL is one JSON object per line
+     */
+    public enum ExportFormat { PIPE, CSV, JSONL }
+
+    private final List<Game> games; // an ArrayList, or the GameColumns below in COMPACT mode
+    private final GameColumns columns; // null unless COMPACT
+    private final IntGameMap byId = new IntGameMap(); // id -> game (+ its spot in games); positions only in COMPACT
+    private final BacklogStats stats = new BacklogStats(); // status counts + score buckets, same positions as games
+    private final FilterIndex filters = new FilterIndex(); // status/ownership/platform bitsets, same positions as games
+    private final PlatformDictionary platforms = new PlatformDictionary(); // platforms table: id <-> canonical name
+    private NameIndex names; // trigram index for searchByName, built on the first search (null until then)
+    private volatile boolean fullTextSearch; // games_fts is there (SQLite built with FTS5)
     private final String url; // Example: jdbc:sqlite:G:/checkpoint.db
+    private final SqliteProfile profile; // PRAGMAs applied whenever the connection opens
+    private volatile ScoringStrategy scoring; // how backlog scores are worked out (DEFAULT unless changed)
+    private volatile boolean loaded; // true once every row is in games (always after an EAGER open); never goes back
+    // guards games/byId/stats/loaded/scoring and the connection + statements (not reentrant:
+    // public methods take it once and only call private helpers)
+    private final StampedLock lock = new StampedLock();
+    private final Path snapshotFile; // LibrarySnapshot next to the .db, null for an in-memory database
+    private long snapshotStamp; // stamp of the snapshot memory was loaded from or last saved to (0 = none)
+    private long dataVersion; // PRAGMA data_version when the rows were read (another connection's commit changes it)
+    private long syncedVersion; // change counter (library_meta 'version') memory has caught up with
+    private long writeVersion; // version for rows written in the open transaction (see bumpVersion)
+    private Connection connection; // opened once, reused by every call
+    private WriteBehindQueue writeBehind; // unsaved edits in write-behind mode, null otherwise
+    private boolean flushing; // writePending is running (so connection() does not start it again)
+    private Thread flushOnExit; // shutdown hook that closes (and so flushes) while write-behind is on
+    private final Map<String, PreparedStatement> statements = new HashMap<>(); // sql -> compiled statement
 
+    /** uses "<db file>.properties" for the SQLite profile if present, otherwise balanced */
     public DbLibrary(String sqliteFilePath) {
+        this(sqliteFilePath, SqliteProfile.forDatabase(sqliteFilePath));
+    }
+
+    public DbLibrary(String sqliteFilePath, SqliteProfile profile) {
+        this(sqliteFilePath, profile, ScoringStrategy.DEFAULT);
+    }
+
+    public DbLibrary(String sqliteFilePath, SqliteProfile profile, ScoringStrategy scoring) {
+        this(sqliteFilePath, profile, scoring, LoadMode.EAGER);
+    }
+
+    /** PAGED opens in about the same time for any table size: rows are read by page or by id */
+    public DbLibrary(String sqliteFilePath, LoadMode mode) {
+        this(sqliteFilePath, SqliteProfile.forDatabase(sqliteFilePath), ScoringStrategy.DEFAULT, mode);
+    }
+
+    public DbLibrary(String sqliteFilePath, SqliteProfile profile, ScoringStrategy scoring, LoadMode mode) {
+        if (profile == null) throw new IllegalArgumentException("profile required");
+        if (scoring == null) throw new IllegalArgumentException("scoring strategy required");
+        if (mode == null) throw new IllegalArgumentException("load mode required");
         this.url = "jdbc:sqlite:" + sqliteFilePath;
+        this.snapshotFile = sqliteFilePath.isBlank() || sqliteFilePath.startsWith(":memory:")
+                ? null : Path.of(sqliteFilePath + ".snapshot");
+        this.profile = profile;
+        this.scoring = scoring;
+        this.columns = mode == LoadMode.COMPACT ? new GameColumns() : null;
+        this.games = columns != null ? columns : new ArrayList<>();
         ensureTable();
-        reloadFromDb();
+        if (mode != LoadMode.PAGED) reloadFromDb();
+        else markSynced(); // nothing in memory yet, but sync() counts changes from here
+    }
+
+    /**
+     * Saves queued write-behind edits and the snapshot if it is worth it, then closes the cached
+     * statements and the connection (safe to call twice)
+     */
+    @Override
+    public void close() {
+        long stamp = lock.writeLock();
+        try {
+            String unsaved = stopWriteBehind(false);
+            if (unsaved != null) System.out.println("⚠️ close: " + unsaved);
+            if (connection != null && loaded && snapshotFile != null && unsaved == null) saveSnapshot();
+            for (PreparedStatement ps : statements.values()) {
+                try { ps.close(); } catch (SQLException ignored) { }
+            }
+            statements.clear();
+            if (connection != null) {
+                try { connection.close(); } catch (SQLException e) {
+                    System.out.println("⚠️ close: " + e.getMessage());
+                }
+                connection = null;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Catches up with writes other connections or processes made since this library last read
+     * the database. Only rows whose version is newer than the last one seen are read, plus the
+     * ids in the games_deleted tombstones. When nobody else has committed it costs one PRAGMA
+     * and one lookup, so the GUI can call it on a timer.
+     * Returns how many games changed (0 = nothing new). A PAGED library with no rows in memory
+     * only counts them, so callers know to drop cached pages.
+     */
+    public int sync() {
+        long stamp = lock.writeLock();
+        try {
+            return syncChanges();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** enableWriteBehind with DEFAULT_FLUSH_ROWS and DEFAULT_FLUSH_MILLIS */
+    public void enableWriteBehind() {
+        enableWriteBehind(DEFAULT_FLUSH_ROWS, DEFAULT_FLUSH_MILLIS);
+    }
+
+    /**
+     * From now on add, remove, updateField and update change memory and return straight away;
+     * a background thread saves the edits in one transaction once flushRows games are waiting
+     * or flushMillis after the first one. Several edits to one game are saved as one row write.
+     * Every row is loaded first (answers come from memory while edits are unsaved).
+     * If a save fails the edits stay queued: flush() reports why and retries, and so does the
+     * next edit, which is refused if it still fails. close() and JVM shutdown save what is left.
+     */
+    public void enableWriteBehind(int flushRows, long flushMillis) {
+        long stamp = lock.writeLock();
+        try {
+            WriteBehindQueue queue = new WriteBehindQueue(flushRows, flushMillis, this::flushInBackground);
+            String unsaved = stopWriteBehind(true);
+            if (unsaved != null) System.out.println("⚠️ enableWriteBehind: " + unsaved);
+            ensureLoaded();
+            writeBehind = queue;
+            flushOnExit = new Thread(this::close, "checkpoint-flush-on-exit");
+            Runtime.getRuntime().addShutdownHook(flushOnExit);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** saves what is queued and goes back to saving every edit before it returns */
+    public String disableWriteBehind() {
+        long stamp = lock.writeLock();
+        try {
+            if (writeBehind == null) return "✅ Write-behind was not on";
+            String unsaved = stopWriteBehind(true);
+            return unsaved == null ? "✅ Write-behind off, every edit is saved" : "❌ " + unsaved;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** true while edits are saved in the background */
+    public boolean isWriteBehind() {
+        long stamp = lock.readLock();
+        try {
+            return writeBehind != null;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** number of games with edits not saved yet (0 outside write-behind mode) */
+    public int pendingWrites() {
+        long stamp = lock.readLock();
+        try {
+            return writeBehind == null ? 0 : writeBehind.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** saves every queued write-behind edit now (and says whether that worked) */
+    public String flush() {
+        long stamp = lock.writeLock();
+        try {
+            if (writeBehind == null || writeBehind.isEmpty()) return "✅ Nothing waiting to be saved";
+            int n = writeBehind.size();
+            try {
+                writePending();
+                return "✅ Saved " + n + " queued edit(s)";
+            } catch (SQLException e) {
+                return "❌ Saving queued edits failed (" + n + " still queued): " + e.getMessage();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** the SQLite profile this library opened with */
+    public SqliteProfile getProfile() {
+        return profile;
     }
 
     //Public API (same as Library)
 
-    /** returns an unmodifiable view of all games */
+    /** an unmodifiable snapshot of all games; later writes don't show up in it (PAGED loads everything first) */
     public List<Game> listAll() {
-        return Collections.unmodifiableList(games);
+        loadAll();
+        long stamp = lock.readLock();
+        try {
+            return List.copyOf(games);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** true when every row is in memory */
+    public boolean isFullyLoaded() {
+        return loaded;
+    }
+
+    /** number of games (asks SQLite if the rows are not loaded) */
+    public int count() {
+        long stamp = lock.tryOptimisticRead();
+        if (loaded) {
+            int size = games.size();
+            if (lock.validate(stamp)) return size;
+        }
+        stamp = lock.writeLock();
+        try {
+            if (loaded) return games.size();
+            try (ResultSet rs = prepared(COUNT_SQL).executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            } catch (SQLException e) {
+                System.out.println("⚠️ count: " + e.getMessage());
+                return 0;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Up to limit games with id > afterId, in id order (keyset paging: start with afterId = 0,
+     * then pass the last id of each page). Always reads SQLite, so it works in both modes;
+     * games that are already in memory come back as the same objects.
+     */
+    public List<Game> listPage(int afterId, int limit) {
+        long stamp = lock.writeLock();
+        try {
+            if (limit < 1) return List.of();
+            try {
+                PreparedStatement ps = prepared(SELECT_PAGE_SQL);
+                ps.setInt(1, afterId);
+                ps.setInt(2, limit);
+                return readPage(ps, limit);
+            } catch (SQLException e) {
+                System.out.println("⚠️ listPage: " + e.getMessage());
+                return new ArrayList<>();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Up to limit games starting at row offset of the id order. SQLite has to step over the
+     * skipped rows, so prefer listPage when the previous page's last id is known; this is for
+     * jumping straight into the middle (e.g. dragging a scrollbar).
+     */
+    public List<Game> listPageAt(int offset, int limit) {
+        long stamp = lock.writeLock();
+        try {
+            if (limit < 1 || offset < 0) return List.of();
+            try {
+                PreparedStatement ps = prepared(SELECT_AT_OFFSET_SQL);
+                ps.setInt(1, limit);
+                ps.setInt(2, offset);
+                return readPage(ps, limit);
+            } catch (SQLException e) {
+                System.out.println("⚠️ listPageAt: " + e.getMessage());
+                return new ArrayList<>();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** row number of id in the id order listPage walks, or -1 if there is no such game */
+    public int rowIndexOf(int id) {
+        long stamp = lock.writeLock();
+        try {
+            try {
+                if (lookup(id) == null) return -1;
+                PreparedStatement ps = prepared(COUNT_BELOW_SQL);
+                ps.setInt(1, id);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : -1;
+                }
+            } catch (SQLException e) {
+                System.out.println("⚠️ rowIndexOf: " + e.getMessage());
+                return -1;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
     /** adds a game if its id is unique and saves it */
     public String add(Game game) {
-        if (findById(game.getId()).isPresent()) return "❌ A game with that id already exists";
-        final String sql =
-                "INSERT INTO games(id,name,platform,status,priority,ownership) VALUES(?,?,?,?,?,?)";
-        try (Connection c = DriverManager.getConnection(url);
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            ps.setInt(1, game.getId());
-            ps.setString(2, game.getName());
-            ps.setString(3, game.getPlatform());
-            ps.setString(4, game.getStatus().name());
-            ps.setInt(5, game.getPriority());
-            ps.setString(6, game.getOwnership().name());
-            ps.executeUpdate();
-            games.add(game);
-            return "✅ Added:\n" + game;
-        } catch (SQLException e) {
-            return "❌ DB error adding game: " + e.getMessage();
+        long stamp = lock.writeLock();
+        try {
+            try {
+                if (loaded ? byId.contains(game.getId()) : fetchById(game.getId()) != null) {
+                    return "❌ A game with that id already exists";
+                }
+                Game saved; // game, or a copy with the canonical platform (game itself is not changed)
+                if (writeBehind != null) {
+                    saved = queueUpsert(game);
+                } else {
+                    saved = writeTransaction(() -> {
+                        PreparedStatement ps = prepared(INSERT_SQL);
+                        Game bound = bindGame(ps, game);
+                        ps.executeUpdate();
+                        return bound;
+                    });
+                }
+                if (loaded) addInMemory(saved);
+                return "✅ Added:\n" + saved;
+            } catch (SQLException e) {
+                return "❌ DB error adding game: " + e.getMessage();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
         }
     }
 
     /** removes a game by id and saves the removal of it */
     public String remove(int id) {
-        Optional<Game> hit = findById(id);
-        if (hit.isEmpty()) return "No game record with id " + id + " to remove";
-        try (Connection c = DriverManager.getConnection(url);
-             PreparedStatement ps = c.prepareStatement("DELETE FROM games WHERE id=?")) {
-            ps.setInt(1, id);
-            ps.executeUpdate();
-            games.remove(hit.get());
-            return "🗑️ Remove id " + id + ".";
-        } catch (SQLException e) {
-            return "❌ DB error removing: " + e.getMessage();
+        long stamp = lock.writeLock();
+        try {
+            try {
+                if (loaded ? !byId.contains(id) : fetchById(id) == null) {
+                    return "No game record with id " + id + " to remove";
+                }
+                if (writeBehind != null) {
+                    queueDelete(id);
+                } else {
+                    writeTransaction(() -> {
+                        PreparedStatement ps = prepared(DELETE_SQL);
+                        ps.setInt(1, id);
+                        return ps.executeUpdate();
+                    });
+                }
+                if (loaded) removeInMemory(id);
+                return "🗑️ Remove id " + id + ".";
+            } catch (SQLException e) {
+                return "❌ DB error removing: " + e.getMessage();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds many games as one JDBC batch in one transaction. Ids that are taken (or repeated in
+     * toAdd) are skipped; if the transaction fails nothing is added, new platforms included.
+     * Memory changes in one go after the commit. The result has one outcome per input game, in order.
+     */
+    public BulkResult addAll(Collection<Game> toAdd) {
+        long stamp = lock.writeLock();
+        try {
+            Game[] rows = toAdd.toArray(new Game[0]);
+            int[] ids = new int[rows.length];
+            BulkResult.Outcome[] outcomes = new BulkResult.Outcome[rows.length];
+            int[] batched = new int[rows.length]; // input indexes, in batch order
+            int size = 0;
+
+            IntIdSet seen = new IntIdSet();
+            // PAGED: no id index in memory, so let SQLite skip taken ids (update count 0)
+            PreparedStatement ps = null;
+            try {
+                ps = prepared(loaded ? INSERT_SQL : INSERT_IGNORE_SQL);
+                Connection c = connection();
+                c.setAutoCommit(false); // platforms rows added while binding are part of the batch
+                try {
+                    bumpVersion();
+                    for (int i = 0; i < rows.length; i++) {
+                        Game g = rows[i];
+                        if (g == null) { outcomes[i] = BulkResult.Outcome.INVALID; continue; }
+                        ids[i] = g.getId();
+                        if (!seen.add(g.getId())) { outcomes[i] = BulkResult.Outcome.REPEATED; continue; }
+                        if (loaded && byId.contains(g.getId())) { outcomes[i] = BulkResult.Outcome.ALREADY_EXISTS; continue; }
+                        rows[i] = bindGame(ps, g); // rows is our array: the caller's Game is not changed
+                        ps.addBatch();
+                        batched[size++] = i;
+                    }
+                    int[] counts = size == 0 ? new int[0] : ps.executeBatch();
+                    c.commit();
+                    for (int k = 0; k < size; k++) {
+                        outcomes[batched[k]] = counts[k] > 0 ? BulkResult.Outcome.ADDED : BulkResult.Outcome.ALREADY_EXISTS;
+                    }
+                } catch (SQLException e) {
+                    c.rollback();
+                    loadPlatforms(); // forget platforms first seen in the rolled-back batch
+                    throw e;
+                } finally {
+                    c.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                clearBatch(ps);
+                for (int k = 0; k < size; k++) outcomes[batched[k]] = BulkResult.Outcome.ROLLED_BACK;
+                return new BulkResult(ids, outcomes, e.getMessage());
+            }
+
+            if (loaded) {
+                for (int k = 0; k < size; k++) {
+                    if (outcomes[batched[k]] == BulkResult.Outcome.ADDED) addInMemory(rows[batched[k]]);
+                }
+            }
+            return new BulkResult(ids, outcomes, null);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes many ids as one JDBC batch in one transaction. Unknown (or repeated) ids are
+     * reported, not errors; if the transaction fails nothing is removed. One outcome per id.
+     */
+    public BulkResult removeAll(int[] ids) {
+        long stamp = lock.writeLock();
+        try {
+            int[] copy = ids.clone();
+            BulkResult.Outcome[] outcomes = new BulkResult.Outcome[copy.length];
+            int[] batched = new int[copy.length];
+            int size = 0;
+
+            IntIdSet seen = new IntIdSet();
+            PreparedStatement ps = null;
+            try {
+                ps = prepared(DELETE_SQL);
+                for (int i = 0; i < copy.length; i++) {
+                    int id = copy[i];
+                    if (id <= 0 || (loaded && !byId.contains(id))) { outcomes[i] = BulkResult.Outcome.NOT_FOUND; continue; }
+                    if (!seen.add(id)) { outcomes[i] = BulkResult.Outcome.REPEATED; continue; }
+                    ps.setInt(1, id);
+                    ps.addBatch();
+                    batched[size++] = i;
+                }
+                int[] counts = runBatch(ps, size);
+                for (int k = 0; k < size; k++) {
+                    outcomes[batched[k]] = counts[k] > 0 ? BulkResult.Outcome.REMOVED : BulkResult.Outcome.NOT_FOUND;
+                }
+            } catch (SQLException e) {
+                clearBatch(ps);
+                for (int k = 0; k < size; k++) outcomes[batched[k]] = BulkResult.Outcome.ROLLED_BACK;
+                return new BulkResult(copy, outcomes, e.getMessage());
+            }
+
+            if (loaded) {
+                int[] removed = new int[size];
+                int count = 0;
+                for (int k = 0; k < size; k++) {
+                    if (outcomes[batched[k]] == BulkResult.Outcome.REMOVED) removed[count++] = copy[batched[k]];
+                }
+                removeInMemory(removed, count);
+            }
+            return new BulkResult(copy, outcomes, null);
+        } finally {
+            lock.unlockWrite(stamp);
         }
     }
 
-    /** updates a single field by id and saves it */
+    /** updates a single field by id and saves it (memory only changes if the save worked) */
     public String updateField(int id, String field, String newValue) {
-        Optional<Game> hitOpt = findById(id);
-        if (hitOpt.isEmpty()) return "⚠️ No game record with id " + id + " to update";
-        Game g = hitOpt.get();
-
-        // 1) Validate & update in-memory Game rules
-        try {
-            switch (field.toLowerCase(Locale.ROOT)) {
-                case "name"      -> g.setName(newValue);
-                case "platform"  -> g.setPlatform(newValue);
-                case "status"    -> g.setStatus(toStatus(newValue));
-                case "priority"  -> g.setPriority(Integer.parseInt(newValue));
-                case "ownership" -> g.setOwnership(toOwnership(newValue));
-                default -> { return "❌ Unknown field: " + field; }
-            }
-        } catch (Exception ex) {
-            return "❌ Wrong value for " + field + ": " + ex.getMessage();
-        }
-
-        // 2) Save just that column
-        String col = switch (field.toLowerCase(Locale.ROOT)) {
-            case "name" -> "name";
-            case "platform" -> "platform";
-            case "status" -> "status";
-            case "priority" -> "priority";
-            case "ownership" -> "ownership";
-            default -> null;
-        };
-        if (col == null) return "❌ Unknown field: " + field;
-
-        String sql = "UPDATE games SET " + col + "=? WHERE id=?";
-        try (Connection c = DriverManager.getConnection(url);
-             PreparedStatement ps = c.prepareStatement(sql)) {
-            switch (col) {
-                case "priority"  -> ps.setInt(1, g.getPriority());
-                case "status"    -> ps.setString(1, g.getStatus().name());
-                case "ownership" -> ps.setString(1, g.getOwnership().name());
-                case "name"      -> ps.setString(1, g.getName());
-                default          -> ps.setString(1, g.getPlatform());
-            }
-            ps.setInt(2, id);
-            ps.executeUpdate();
-            return "✅ Updated " + field + ":\n " + g;
-        } catch (SQLException e) {
-            return "❌ DB error updating: " + e.getMessage();
+        long stamp = lock.writeLock();
+        try {
+            int pos = -1;
+            Game g;
+            if (loaded) {
+                pos = byId.positionOf(id);
+                g = pos < 0 ? null : games.get(pos);
+            } else {
+                try {
+                    g = fetchById(id);
+                } catch (SQLException e) {
+                    return "❌ DB error updating: " + e.getMessage();
+                }
+            }
+            if (g == null) return "⚠️ No game record with id " + id + " to update";
+
+            String col = switch (field.toLowerCase(Locale.ROOT)) {
+                case "name", "platform", "status", "priority", "ownership" -> field.toLowerCase(Locale.ROOT);
+                default -> null;
+            };
+            if (col == null) return "❌ Unknown field: " + field;
+
+            // 1) Validate Game rules on a copy, so a bad value or a failed save leaves g alone
+            Game updated = copyOf(g);
+            try {
+                switch (col) {
+                    case "name"      -> updated.setName(newValue);
+                    case "platform"  -> updated.setPlatform(newValue);
+                    case "status"    -> updated.setStatus(toStatus(newValue));
+                    case "priority"  -> updated.setPriority(Integer.parseInt(newValue));
+                    default          -> updated.setOwnership(toOwnership(newValue));
+                }
+            } catch (Exception ex) {
+                return "❌ Wrong value for " + field + ": " + ex.getMessage();
+            }
+
+            // 2) Save just that column
+            // col is one of the 5 names above; platform is stored as its platforms-table id
+            String sql = "UPDATE games SET " + (col.equals("platform") ? "platform_id" : col) + "=?, version=? WHERE id=?";
+            try {
+                if (writeBehind != null) {
+                    updated = queueUpsert(updated); // the whole row: later edits to the same game replace it
+                    replaceInMemory(id, pos, updated);
+                    return "✅ Updated " + field + ":\n " + updated;
+                }
+                Game copy = updated;
+                writeTransaction(() -> {
+                    PreparedStatement ps = prepared(sql);
+                    switch (col) {
+                        case "priority"  -> ps.setInt(1, copy.getPriority());
+                        case "status"    -> ps.setString(1, copy.getStatus().name());
+                        case "ownership" -> ps.setString(1, copy.getOwnership().name());
+                        case "name"      -> ps.setString(1, copy.getName());
+                        default          -> { // copy is ours, so it can take the canonical spelling
+                            int code = platformCode(copy.getPlatform());
+                            copy.setPlatform(platforms.name(code));
+                            ps.setInt(1, code);
+                        }
+                    }
+                    ps.setLong(2, writeVersion);
+                    ps.setInt(3, id);
+                    return ps.executeUpdate();
+                });
+            } catch (SQLException e) {
+                return "❌ DB error updating: " + e.getMessage();
+            }
+
+            // 3) Saved, so now memory and the report stats follow
+            if (pos >= 0) replaceInMemory(id, pos, updated);
+            return "✅ Updated " + field + ":\n " + updated;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Applies a whole edit (any fields, the id too) with one UPDATE statement, so it is saved
+     * completely or not at all. Every value is checked against Game's rules first.
+     */
+    public String update(int id, GameChanges changes) {
+        long stamp = lock.writeLock();
+        try {
+            if (changes == null || changes.isEmpty()) return "⚠️ Nothing to update for id " + id;
+            int pos = -1;
+            Game g;
+            try {
+                if (loaded) {
+                    pos = byId.positionOf(id);
+                    g = pos < 0 ? null : games.get(pos);
+                } else {
+                    g = fetchById(id);
+                }
+                if (g == null) return "⚠️ No game record with id " + id + " to update";
+
+                int newId = changes.idOr(id);
+                if (newId != id && (loaded ? byId.contains(newId) : fetchById(newId) != null)) {
+                    return "❌ A game with id " + newId + " already exists";
+                }
+            } catch (SQLException e) {
+                return "❌ DB error updating: " + e.getMessage();
+            }
+
+            // 1) Validate on a copy, so a bad value or a failed save leaves g alone
+            Game updated = copyOf(g);
+            try {
+                changes.applyTo(updated);
+            } catch (IllegalArgumentException ex) {
+                return "❌ Wrong value: " + ex.getMessage();
+            }
+
+            // 2) One statement for every column (its own transaction)
+            try {
+                if (writeBehind != null) {
+                    if (updated.getId() != id) queueDelete(id); // renumbered: the old row goes
+                    updated = queueUpsert(updated);
+                    replaceInMemory(id, pos, updated);
+                    return "✅ Updated:\n " + updated;
+                }
+                Game edited = updated;
+                updated = writeTransaction(() -> {
+                    PreparedStatement ps = prepared(UPDATE_SQL);
+                    Game bound = bindGame(ps, edited);
+                    ps.setInt(8, id);
+                    ps.executeUpdate();
+                    return bound;
+                });
+            } catch (SQLException e) {
+                return "❌ DB error updating: " + e.getMessage();
+            }
+
+            // 3) Saved: the new game takes the old one's list position (an id change just re-keys it)
+            if (pos >= 0) replaceInMemory(id, pos, updated);
+            return "✅ Updated:\n " + updated;
+        } finally {
+            lock.unlockWrite(stamp);
         }
     }
 
-    /** imports from a text file and saves rows */
+    /** imports from a text file and saves rows (commits every DEFAULT_IMPORT_CHUNK rows) */
     public String importFromFile(Path path) {
-        if (path == null) return "❌ Path is needed.";
-        if (!Files.exists(path)) return "❌ File not found: " + path;
+        return importFromFile(path, DEFAULT_IMPORT_CHUNK);
+    }
 
-        int added = 0, skipped = 0;
-        final String sql =
-                "INSERT INTO games(id,name,platform,status,priority,ownership) VALUES(?,?,?,?,?,?)";
+    /**
+     * Streams the file and commits every chunkSize rows, so only one chunk is held at a time.
+     * The in-memory list only changes after a chunk commits; if something fails, the chunks
+     * already committed stay and the current one is rolled back.
+     */
+    public String importFromFile(Path path, int chunkSize) {
+        return importFromFile(path, chunkSize, ImportProgress.NONE);
+    }
 
-        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8);
-             Connection c = DriverManager.getConnection(url)) {
-            c.setAutoCommit(false);
-            try (PreparedStatement ps = c.prepareStatement(sql)) {
-                String line;
-                while ((line = br.readLine()) != null) {
-                    if (line.trim().isEmpty() || line.trim().startsWith("#")) continue;
-                    String[] p = line.split("\\|");
-                    if (p.length != 6) { skipped++; continue; }
-                    try {
-                        Game g = new Game(
-                                Integer.parseInt(p[0].trim()),
-                                p[1].trim(),
-                                p[2].trim(),
-                                toStatus(p[3].trim()),
-                                Integer.parseInt(p[4].trim()),
-                                toOwnership(p[5].trim())
-                        );
-                        if (findById(g.getId()).isPresent()) { skipped++; continue; }
-
-                        ps.setInt(1, g.getId());
-                        ps.setString(2, g.getName());
-                        ps.setString(3, g.getPlatform());
-                        ps.setString(4, g.getStatus().name());
-                        ps.setInt(5, g.getPriority());
-                        ps.setString(6, g.getOwnership().name());
-                        ps.addBatch();
+    /** same as importFromFile(path, chunkSize), reporting progress and checking for cancel */
+    public String importFromFile(Path path, int chunkSize, ImportProgress progress) {
+        long stamp = lock.writeLock();
+        try {
+            if (path == null) return "❌ Path is needed.";
+            if (!Files.exists(path)) return "❌ File not found: " + path;
+            if (chunkSize < 1) return "❌ Chunk size must be > 0.";
+            ensureLoaded(); // duplicate checks use the in-memory id index
 
-                        games.add(g);
-                        added++;
-                    } catch (Exception ex) {
-                        skipped++;
-                    }
+            ImportCounts n = new ImportCounts();
+            try {
+                streamImport(path, chunkSize, false, n, progress);
+            } catch (CancellationException e) {
+                return String.format("⏹ Import cancelled. The chunk in progress was rolled back; kept %d rows from %d committed chunks, Total now: %d",
+                        n.added, n.chunks, games.size());
+            } catch (Exception e) {
+                return String.format(" Error importing to DB: %s (kept %d rows from %d committed chunks, Total now: %d)",
+                        e.getMessage(), n.added, n.chunks, games.size());
+            }
+            return String.format("📥 Import complete. Added: %d, Skipped: %d, Total now: %d",
+                    n.added, n.skipped, games.size());
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** merge-sync from a file (commits every DEFAULT_IMPORT_CHUNK rows) */
+    public String mergeFromFile(Path path, boolean mirror) {
+        return mergeFromFile(path, mirror, DEFAULT_IMPORT_CHUNK);
+    }
+
+    /**
+     * Merge-sync in one pass: new ids are inserted, changed rows are updated (INSERT ... ON CONFLICT
+     * DO UPDATE), rows that already match are not written at all. With mirror=true, games whose id
+     * is not in the file are deleted afterwards. Repeated ids in the file: the first one wins.
+     */
+    public String mergeFromFile(Path path, boolean mirror, int chunkSize) {
+        return mergeFromFile(path, mirror, chunkSize, ImportProgress.NONE);
+    }
+
+    /** same as mergeFromFile(path, mirror, chunkSize), reporting progress and checking for cancel */
+    public String mergeFromFile(Path path, boolean mirror, int chunkSize, ImportProgress progress) {
+        long stamp = lock.writeLock();
+        try {
+            if (path == null) return "❌ Path is needed.";
+            if (!Files.exists(path)) return "❌ File not found: " + path;
+            if (chunkSize < 1) return "❌ Chunk size must be > 0.";
+            ensureLoaded(); // unchanged-row checks and mirror use the in-memory games
+
+            ImportCounts n = new ImportCounts();
+            try {
+                streamImport(path, chunkSize, true, n, progress);
+                if (mirror) {
+                    if (n.seen.size() == 0) return "❌ Mirror stopped: the file had no valid rows, nothing was deleted.";
+                    if (progress.isCancelled()) throw new CancellationException();
+                    n.deleted = deleteMissing(n.seen);
                 }
-                ps.executeBatch();
-                c.commit();
-            } catch (Exception inner) {
-                c.rollback();
-                throw inner;
-            } finally {
-                c.setAutoCommit(true);
+            } catch (CancellationException e) {
+                return String.format("⏹ Merge cancelled. The chunk in progress was rolled back, nothing deleted; "
+                        + "kept Added: %d, Updated: %d from %d committed chunks, Total now: %d",
+                        n.added, n.updated, n.chunks, games.size());
+            } catch (Exception e) {
+                return String.format(" Error merging to DB: %s (kept Added: %d, Updated: %d from %d committed chunks, "
+                        + "nothing deleted, Total now: %d)", e.getMessage(), n.added, n.updated, n.chunks, games.size());
             }
-        } catch (Exception e) {
-            return " Error importing to DB: " + e.getMessage();
+            return String.format("🔄 Merge complete. Added: %d, Updated: %d, Unchanged: %d, Deleted: %d, Skipped: %d, Total now: %d",
+                    n.added, n.updated, n.unchanged, n.deleted, n.skipped, games.size());
+        } finally {
+            lock.unlockWrite(stamp);
         }
-        return String.format("📥 Import complete. Added: %d, Skipped: %d, Total now: %d",
-                added, skipped, games.size());
     }
 
-    /** finds by id */
+    /** finds by id (hash lookup, no list scan; one SELECT if the rows are not loaded) */
     public Optional<Game> findById(int id) {
-        return games.stream().filter(g -> g.getId() == id).findFirst();
+        // optimistic: no lock at all unless a writer got in while we looked
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L && loaded) {
+            Game g;
+            try {
+                g = resident(id);
+            } catch (RuntimeException tornByWriter) { // e.g. read the map mid-resize
+                g = null;
+                stamp = 0L;
+            }
+            if (lock.validate(stamp)) return Optional.ofNullable(g);
+        }
+        if (loaded) {
+            stamp = lock.readLock();
+            try {
+                return Optional.ofNullable(resident(id));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        stamp = lock.writeLock(); // the connection is only used under the write lock
+        try {
+            return Optional.ofNullable(lookup(id));
+        } catch (SQLException e) {
+            System.out.println("⚠️ findById: " + e.getMessage());
+            return Optional.empty();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Games matching every given value (null = any value), e.g. filter(UNPLAYED, PHYSICAL, "PS5").
+     * In memory this is an AND of bitset indexes (list order); a PAGED library runs one
+     * SELECT on the SQLite indexes instead (id order).
+     */
+    public List<Game> filter(Game.Status status, Game.Ownership ownership, String platform) {
+        if (loaded) {
+            long stamp = lock.readLock();
+            try {
+                return gamesAt(filters.matching(status, ownership, knownPlatform(platform), games.size()));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (loaded) return gamesAt(filters.matching(status, ownership, knownPlatform(platform), games.size()));
+            GameQuery q = query().status(status).ownership(ownership).platform(platform);
+            PreparedStatement ps = prepared("SELECT id,name,platform_id,status,priority,ownership FROM games"
+                    + whereClause(q) + " ORDER BY id");
+            bindFilter(ps, q);
+            return readPage(ps, Integer.MAX_VALUE);
+        } catch (SQLException e) {
+            System.out.println("⚠️ filter: " + e.getMessage());
+            return new ArrayList<>();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** how many games match (same rules as filter, without building the list) */
+    public int countMatching(Game.Status status, Game.Ownership ownership, String platform) {
+        return count(query().status(status).ownership(ownership).platform(platform));
+    }
+
+    /**
+     * Starts a query, e.g. query().status(UNPLAYED).platform("PC").minPriority(4).orderByScore().limit(20).list().
+     * With every row in memory it runs on the bitset indexes and score buckets; otherwise the
+     * WHERE, ORDER BY and LIMIT go to SQLite and the rows stream from the cursor.
+     */
+    public GameQuery query() {
+        return new GameQuery(this);
+    }
+
+    /**
+     * GameQuery.forEach: in memory under the read lock, or one SQL statement under the write lock.
+     * Either way the hits (limit applied) are copied out first and action runs with no lock held,
+     * so it may call back into the library (the lock is not reentrant).
+     */
+    void run(GameQuery q, Consumer<Game> action) {
+        List<Game> hits = null;
+        if (loaded) {
+            long stamp = lock.readLock();
+            try {
+                hits = queryInMemory(q);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        } else {
+            long stamp = lock.writeLock();
+            try {
+                hits = loaded ? queryInMemory(q) : queryInSql(q);
+            } catch (SQLException e) {
+                System.out.println("⚠️ query: " + e.getMessage());
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        if (hits != null) hits.forEach(action); // outside the lock
+    }
+
+    /** GameQuery.count: COUNT(*) in SQL, bitset cardinality in memory (limit applied) */
+    int count(GameQuery q) {
+        if (loaded) {
+            long stamp = lock.readLock();
+            try {
+                return Math.min(q.limit(), countInMemory(q));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (loaded) return Math.min(q.limit(), countInMemory(q));
+            PreparedStatement ps = prepared("SELECT COUNT(*) FROM games" + whereClause(q));
+            bindFilter(ps, q);
+            try (ResultSet rs = ps.executeQuery()) {
+                return Math.min(q.limit(), rs.next() ? rs.getInt(1) : 0);
+            }
+        } catch (SQLException e) {
+            System.out.println("⚠️ count: " + e.getMessage());
+            return 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Up to limit games whose name contains query, best match first (exact name, then name
+     * starts with it, then a word starts with it). Case and accents are ignored: "pokemon"
+     * finds "Pokémon". In memory this uses a trigram index built on the first search; a PAGED
+     * library asks the FTS5 table instead, which matches word prefixes ("silk" finds
+     * "Hollow Knight: Silksong", "song" does not).
+     */
+    public List<Game> searchByName(String query, int limit) {
+        if (limit <= 0 || NameIndex.fold(query).isEmpty()) return new ArrayList<>();
+        if (loaded) {
+            long stamp = lock.readLock();
+            try {
+                if (names != null) return gamesWithIds(names.search(query, limit));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        long stamp = lock.writeLock();
+        try {
+            if (loaded) {
+                if (names == null) {
+                    NameIndex built = new NameIndex();
+                    for (Game g : games) built.add(g.getId(), g.getName());
+                    names = built;
+                }
+                return gamesWithIds(names.search(query, limit));
+            }
+            return sqlSearch(query, limit);
+        } catch (SQLException e) {
+            System.out.println("⚠️ searchByName: " + e.getMessage());
+            return new ArrayList<>();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
     }
 
-    /** same scoring logic */
+    /** score under the current strategy (cached on the Game until it changes) */
     public int scoreFor(Game game) {
-        int statusWeight = switch (game.getStatus()) {
-            case UNPLAYED -> 3;
-            case PLAYING  -> 1;
-            case BEATEN   -> 0;
-        };
-        return (game.getPriority() * 2) + statusWeight;
+        return game.scoreWith(scoring);
     }
 
-    /** same backlog report */
-    public String backlogReport(int topNumber) {
-        if (games.isEmpty()) return "No games loaded yet.";
+    /** the strategy used for scores and the backlog report */
+    public ScoringStrategy getScoringStrategy() {
+        return scoring;
+    }
 
-        long unplayed = games.stream().filter(g -> g.getStatus() == Game.Status.UNPLAYED).count();
-        long playing  = games.stream().filter(g -> g.getStatus() == Game.Status.PLAYING).count();
-        long beaten   = games.stream().filter(g -> g.getStatus() == Game.Status.BEATEN).count();
+    /** switches strategy and re-scores every game in one pass */
+    public void setScoringStrategy(ScoringStrategy strategy) {
+        long stamp = lock.writeLock();
+        try {
+            if (strategy == null) throw new IllegalArgumentException("scoring strategy required");
+            if (strategy == scoring) return;
+            scoring = strategy;
+            if (!loaded) return; // stats get built when the rows load
+            stats.clear();
+            for (Game g : games) stats.append(g.getStatus(), scoreFor(g));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
 
-        List<Game> sorted = new ArrayList<>(games);
-        sorted.sort((a, b) -> Integer.compare(scoreFor(b), scoreFor(a)));
+    /** same backlog report, read from the running stats (cost depends on N, not the library size) */
+    public String backlogReport(int topNumber) {
+        if (!loaded && scoring == ScoringStrategy.DEFAULT) {
+            long stamp = lock.writeLock();
+            try {
+                if (!loaded) return sqlBacklogReport(topNumber);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        loadAll();
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("📊 Backlog Health\n")
-                .append("Total: ").append(games.size())
-                .append(" | Unplayed: ").append(unplayed)
-                .append(" | Playing: ").append(playing)
-                .append(" | Beaten: ").append(beaten).append("\n\n")
-                .append("🔥 Top ").append(Math.min(topNumber, sorted.size())).append(" To Tackle Next:\n");
-        for (int i = 0; i < Math.min(topNumber, sorted.size()); i++) {
-            Game g = sorted.get(i);
-            sb.append(String.format("%d) [%d] %s (score=%d)\n", i + 1, g.getId(), g.getName(), scoreFor(g)));
+        // optimistic first: the report only reads a few stats entries and N games
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            String report;
+            try {
+                report = statsReport(topNumber);
+            } catch (RuntimeException tornByWriter) {
+                report = null;
+                stamp = 0L;
+            }
+            if (lock.validate(stamp)) return report;
+        }
+        stamp = lock.readLock();
+        try {
+            return statsReport(topNumber);
+        } finally {
+            lock.unlockRead(stamp);
         }
-        return sb.toString();
     }
 
-    //Helpers
+    /** exportTo for every game */
+    public String exportTo(Path file, ExportFormat format) {
+        return exportTo(file, format, null);
+    }
 
-    /** Create table if missing (strict to set enums) */
-    private void ensureTable() {
-        String ddl = """
-            CREATE TABLE IF NOT EXISTS games(
-              id        INTEGER PRIMARY KEY,
-              name      TEXT NOT NULL,
-              platform  TEXT NOT NULL,
-              status    TEXT NOT NULL CHECK (status IN ('UNPLAYED','PLAYING','BEATEN')),
-              priority  INTEGER NOT NULL CHECK (priority BETWEEN 1 AND 5),
-              ownership TEXT NOT NULL CHECK (ownership IN ('PHYSICAL','DIGITAL'))
-            );
-            """;
-        try (Connection c = DriverManager.getConnection(url);
-             Statement st = c.createStatement()) {
-            st.executeUpdate(ddl);
-        } catch (SQLException e) {
-            System.out.println("⚠️ ensureTable: " + e.getMessage());
+    /**
+     * Writes the games matching filter (its status/ownership/platform/priority and limit; null =
+     * every game) to file in id order, straight from a database cursor, so memory use does not
+     * grow with the library. A name ending in .gz is gzipped. The file only appears once it is
+     * complete; a failed export leaves any older file there untouched.
+     * Queued write-behind edits are saved first. In WAL mode the rows are then read on a separate
+     * read-only connection, so the library stays usable while the file is written (edits made
+     * meanwhile are not in it); other journal modes keep the library locked for the export.
+     */
+    public String exportTo(Path file, ExportFormat format, GameQuery filter) {
+        if (file == null) return "❌ Path is needed.";
+        if (format == null) return "❌ Format is needed.";
+        GameQuery q = filter != null ? filter : query();
+        // a reader on a second connection only runs next to the writer in WAL (and a :memory: db is per connection)
+        boolean ownConnection = snapshotFile != null && profile.getJournalMode().equalsIgnoreCase("WAL");
+        int platformCode;
+        long stamp = lock.writeLock();
+        try {
+            Connection c = connection(); // saves queued write-behind edits
+            platformCode = q.platform() == null ? -1 : platforms.code(q.platform());
+            if (!ownConnection) return writeExport(c, file, format, q, platformCode);
+        } catch (SQLException | IOException e) {
+            return "❌ Export failed: " + e.getMessage();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        try (Connection reader = DriverManager.getConnection(url)) {
+            try (Statement st = reader.createStatement()) {
+                st.execute("PRAGMA busy_timeout=" + profile.getBusyTimeoutMs());
+                st.execute("PRAGMA query_only=ON");
+            }
+            return writeExport(reader, file, format, q, platformCode);
+        } catch (SQLException | IOException e) {
+            return "❌ Export failed: " + e.getMessage();
         }
     }
 
-    /** Load all rows from DB, mapping any odd values to enums */
-    private void reloadFromDb() {
-        games.clear();
-        final String sql =
-                "SELECT id,name,platform,status,priority,ownership FROM games ORDER BY id";
-        try (Connection c = DriverManager.getConnection(url);
-             PreparedStatement ps = c.prepareStatement(sql);
-             ResultSet rs = ps.executeQuery()) {
-            while (rs.next()) {
-                Game g = new Game(
-                        rs.getInt("id"),
-                        rs.getString("name"),
-                        rs.getString("platform"),
-                        toStatus(rs.getString("status")),
-                        rs.getInt("priority"),
-                        toOwnership(rs.getString("ownership"))
-                );
-                games.add(g);
+    /**
+     * Writes every game ranked by score (same line format as the report) straight to out,
+     * so a full export never builds one big String. Returns how many lines were written.
+     */
+    public int writeRankedBacklog(Appendable out) throws IOException {
+        loadAll();
+        long stamp = lock.readLock(); // writers wait until the export is done
+        try {
+            int[] written = new int[1];
+            stats.forEachRanked((rank, position, score) -> {
+                Game g = games.get(position);
+                out.append(String.valueOf(rank)).append(") [").append(String.valueOf(g.getId())).append("] ")
+                        .append(g.getName()).append(" (score=").append(String.valueOf(score)).append(")\n");
+                written[0] = rank;
+            });
+            return written[0];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Heap estimate for the rows in memory, both ways: one Game object per row (EAGER) and
+     * the column store (COMPACT). Indexes shared by both modes are left out.
+     */
+    public String memoryReport() {
+        long stamp = lock.readLock();
+        try {
+            if (!loaded) return "📦 No rows in memory (PAGED mode reads them from SQLite as needed).";
+            GameColumns asColumns = columns;
+            long objects = 0;
+            if (asColumns == null) {
+                asColumns = new GameColumns();
+                asColumns.addAll(games);
             }
-        } catch (SQLException e) {
-            System.out.println("⚠️ reloadFromDb: " + e.getMessage());
+            for (Game g : games) objects += GameColumns.estimatedObjectBytes(g);
+            long packed = asColumns.estimatedBytes();
+            return String.format("📦 %,d games in memory (%s): ~%,d KB as Game objects vs ~%,d KB in columns (%.1fx smaller)",
+                    games.size(), columns != null ? "COMPACT" : "EAGER", objects / 1024, packed / 1024,
+                    packed == 0 ? 1.0 : (double) objects / packed);
+        } finally {
+            lock.unlockRead(stamp);
         }
     }
 
+    /**
+     * Recounts everything from the list and compares it with the running stats.
+     * Useful after a crash or in tests; the report itself never needs it.
+     */
+    public String checkStatsConsistency() {
+        loadAll();
+        long stamp = lock.readLock();
+        try {
+            String problem = stats.verify(games, scoring::score); // fresh scores, not the cached ones
+            if (problem == null) problem = filters.verify(games);
+            if (problem == null && names != null) problem = names.verify(games);
+            return problem == null
+                    ? "✅ Backlog stats match a full recount (" + games.size() + " games)."
+                    : "❌ Backlog stats out of sync: " + problem;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    //Helpers
+
+    /**
+     * Fills the 7 INSERT parameters (id,name,platform_id,status,priority,ownership,version); see
+     * platformCode and bumpVersion. Returns the Game to keep in memory: g, or a copy of it with
+     * the canonical platform.
+     */
+    private Game bindGame(PreparedStatement ps, Game g) throws SQLException {
+        int code = platformCode(g.getPlatform());
+        ps.setInt(1, g.getId());
+        ps.setString(2, g.getName());
+        ps.setInt(3, code);
+        ps.setString(4, g.getStatus().name());
+        ps.setInt(5, g.getPriority());
+        ps.setString(6, g.getOwnership().name());
+        ps.setLong(7, writeVersion);
+        return withPlatform(g, code);
+    }
+
+    /**
+     * exportTo's cursor loop on connection c (platform names come from a join, so no library
+     * state is read); platformCode is q's platform as a platforms-table id
+     */
+    private static String writeExport(Connection c, Path file, ExportFormat format, GameQuery q, int platformCode)
+            throws SQLException, IOException {
+        try (GameExportWriter out = GameExportWriter.open(file, format);
+             PreparedStatement ps = c.prepareStatement(
+                     "SELECT g.id, g.name, coalesce(p.name, 'Unknown'), g.status, g.priority, g.ownership"
+                     + " FROM games g LEFT JOIN platforms p ON p.id = g.platform_id"
+                     + whereClause(q) + " ORDER BY g.id LIMIT ?")) {
+            ps.setInt(bindFilter(ps, q, platformCode), q.limit());
+            ps.setFetchSize(PAGE_FETCH_SIZE);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    out.row(rs.getInt(1), rs.getString(2), rs.getString(3),
+                            rs.getString(4), rs.getInt(5), rs.getString(6));
+                }
+            }
+            out.finish();
+            String done = "📤 Exported " + out.rows() + " game(s) to " + file;
+            if (out.cleanedRows() > 0) {
+                done += "\n⚠️ " + out.cleanedRows() + " row(s) had | or a line break in the name or platform,"
+                        + " written as a space (use CSV or JSONL to keep them)";
+            }
+            return done;
+        }
+    }
+
+    /** counters for one import / merge run */
+    private static final class ImportCounts {
+        int added, updated, unchanged, skipped, deleted, chunks;
+        long read; // data lines seen (good or not)
+        final IntIdSet seen = new IntIdSet(); // ids read so far (merge mode only)
+    }
+
+    /**
+     * The shared import loop: parses id|name|platform|status|priority|ownership lines
+     * (memory-mapped, see GameFileParser) and commits
+     * every chunkSize rows. merge=false skips ids that exist; merge=true upserts them.
+     * A cancel from progress throws CancellationException after rolling back the open chunk.
+     */
+    private void streamImport(Path path, int chunkSize, boolean merge, ImportCounts n,
+                              ImportProgress progress) throws Exception {
+        List<Game> chunk = new ArrayList<>(Math.min(chunkSize, DEFAULT_IMPORT_CHUNK));
+        IntGameMap inChunk = new IntGameMap(); // ids waiting in this chunk (duplicates inside the file)
+        String sql = merge ? UPSERT_SQL : INSERT_SQL;
+
+        Connection c = connection();
+        SqliteProfile.BULK_LOAD.applyTo(c); // no fsync + big cache while importing
+        c.setAutoCommit(false);
+        try {
+            PreparedStatement ps = prepared(sql);
+            GameFileParser.parse(path, new GameFileParser.RowSink() {
+                @Override
+                public void row(int id, String name, String platform, Game.Status status, int priority,
+                                Game.Ownership ownership) throws SQLException {
+                    tick();
+                    Game g;
+                    try {
+                        // unknown words map the same way as rows loaded from the DB
+                        g = new Game(id, name, platforms.canonical(platform), // shared String, one hash lookup
+                                status != null ? status : toStatus(null),
+                                priority,
+                                ownership != null ? ownership : toOwnership(null));
+                    } catch (IllegalArgumentException ex) {
+                        n.skipped++;
+                        return;
+                    }
+                    if (merge) {
+                        if (!n.seen.add(id)) { n.skipped++; return; }
+                        Game current = resident(id);
+                        if (current != null && sameValues(current, g)) { n.unchanged++; return; }
+                    } else {
+                        if (byId.contains(id) || inChunk.contains(id)) { n.skipped++; return; }
+                        inChunk.put(g, chunk.size());
+                    }
+
+                    if (chunk.isEmpty()) bumpVersion(); // once per chunk transaction
+                    chunk.add(bindGame(ps, g));
+                    ps.addBatch();
+                    if (chunk.size() >= chunkSize) {
+                        commitChunk(c, ps, chunk, n);
+                        inChunk.clear();
+                    }
+                }
+
+                @Override
+                public void malformed() {
+                    tick();
+                    n.skipped++;
+                }
+
+                private void tick() {
+                    if (++n.read % PROGRESS_EVERY != 0) return;
+                    progress.rowsRead(n.read);
+                    if (progress.isCancelled()) throw new CancellationException();
+                }
+            });
+            progress.rowsRead(n.read);
+            if (progress.isCancelled()) throw new CancellationException();
+            if (!chunk.isEmpty()) commitChunk(c, ps, chunk, n);
+        } catch (Exception inner) {
+            c.rollback();
+            prepared(sql).clearBatch();
+            loadPlatforms(); // platforms first seen in the open chunk were rolled back too
+            throw inner;
+        } finally {
+            c.setAutoCommit(true);
+            profile.applyTo(c); // back to the normal settings
+        }
+    }
+
+    /** runs + commits the batched chunk, then (and only then) shows it in memory; empties chunk */
+    private void commitChunk(Connection c, PreparedStatement ps, List<Game> chunk, ImportCounts n)
+            throws SQLException {
+        ps.executeBatch();
+        c.commit();
+        for (Game g : chunk) {
+            int pos = byId.positionOf(g.getId());
+            if (pos < 0) {
+                addInMemory(g);
+                n.added++;
+            } else {
+                replaceInMemory(g.getId(), pos, g);
+                n.updated++;
+            }
+        }
+        chunk.clear();
+        n.chunks++;
+    }
+
+    /** mirror step of a merge: deletes (in one transaction) every game whose id was not seen */
+    private int deleteMissing(IntIdSet seen) throws SQLException {
+        int[] doomed = new int[games.size()];
+        int count = 0;
+        for (int p = 0; p < games.size(); p++) {
+            int id = idAt(p);
+            if (!seen.contains(id)) doomed[count++] = id;
+        }
+        if (count == 0) return 0;
+
+        PreparedStatement ps = prepared(DELETE_SQL);
+        try {
+            for (int i = 0; i < count; i++) {
+                ps.setInt(1, doomed[i]);
+                ps.addBatch();
+            }
+            runBatch(ps, count);
+        } catch (SQLException e) {
+            clearBatch(ps);
+            throw e;
+        }
+        removeInMemory(doomed, count);
+        return count;
+    }
+
+    /** runs the batch of deletes queued on ps (size statements) in one transaction; per-statement update counts */
+    private int[] runBatch(PreparedStatement ps, int size) throws SQLException {
+        if (size == 0) return new int[0];
+        Connection c = connection();
+        c.setAutoCommit(false);
+        try {
+            bumpVersion(); // for the tombstones
+            int[] counts = ps.executeBatch();
+            c.commit();
+            return counts;
+        } catch (SQLException e) {
+            c.rollback();
+            throw e;
+        } finally {
+            c.setAutoCommit(true);
+        }
+    }
+
+    /** drops whatever is still queued on ps (after a failure) */
+    private static void clearBatch(PreparedStatement ps) {
+        if (ps == null) return;
+        try { ps.clearBatch(); } catch (SQLException ignored) { }
+    }
+
+    /** true if every stored column matches */
+    private static boolean sameValues(Game a, Game b) {
+        return a.getPriority() == b.getPriority()
+                && a.getStatus() == b.getStatus()
+                && a.getOwnership() == b.getOwnership()
+                && a.getName().equals(b.getName())
+                && a.getPlatform().equals(b.getPlatform());
+    }
+
+    /** a separate Game with the same values */
+    private static Game copyOf(Game g) {
+        return new Game(g.getId(), g.getName(), g.getPlatform(), g.getStatus(), g.getPriority(), g.getOwnership());
+    }
+
+    /**
+     * Puts updated where the game with oldId was (same list position). The old object is left
+     * as it was, so snapshots and games already handed out never change under a reader.
+     */
+    private void replaceInMemory(int oldId, int pos, Game updated) {
+        if (updated.getId() != oldId) byId.remove(oldId);
+        filters.change(pos, games.get(pos), updated);
+        if (names != null) names.change(oldId, updated);
+        games.set(pos, updated);
+        byId.put(updated.getId(), columns == null ? updated : null, pos);
+        stats.change(pos, updated.getStatus(), scoreFor(updated));
+    }
+
+    /** appends to the list and indexes it by id */
+    private void addInMemory(Game game) {
+        byId.put(game.getId(), columns == null ? game : null, games.size());
+        filters.append(games.size(), game);
+        if (names != null) names.add(game.getId(), game.getName());
+        games.add(game);
+        stats.append(game.getStatus(), scoreFor(game));
+    }
+
+    /** removes one game from memory (see removeInMemory(int[], int)) */
+    private void removeInMemory(int id) {
+        removeInMemory(new int[] {id}, 1);
+    }
+
+    /**
+     * Takes the first count ids out of memory in one pass (ids not in memory are skipped).
+     * Later games move up like List.remove, so listAll, filters and report ties keep their order.
+     */
+    private void removeInMemory(int[] ids, int count) {
+        int[] gone = new int[count];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int pos = byId.positionOf(ids[i]);
+            if (pos < 0) continue;
+            byId.remove(ids[i]);
+            if (names != null) names.remove(ids[i]);
+            gone[n++] = pos;
+        }
+        if (n == 0) return;
+        Arrays.sort(gone, 0, n);
+        stats.removeAt(gone, n);
+        filters.removeAt(gone, n);
+        if (columns != null) columns.removeAt(gone, n);
+        else ListGaps.close(games, gone, n);
+        byId.closeGaps(gone, n);
+    }
+
+    /** the shared connection, opened on first use (or again after close) */
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            statements.clear(); // statements die with their connection
+            Connection c = DriverManager.getConnection(url);
+            try {
+                profile.applyTo(c);
+            } catch (SQLException e) {
+                c.close();
+                throw e;
+            }
+            connection = c;
+        }
+        if (writeBehind != null && !flushing && !writeBehind.isEmpty()) {
+            writePending(); // SQLite must not answer from before the queued edits
+        }
+        return connection;
+    }
+
+    /** compiles sql once per connection, then hands back the same statement */
+    private PreparedStatement prepared(String sql) throws SQLException {
+        Connection c = connection();
+        PreparedStatement ps = statements.get(sql);
+        if (ps == null || ps.isClosed()) {
+            ps = c.prepareStatement(sql);
+            statements.put(sql, ps);
+        }
+        return ps;
+    }
+
+    /** games table DDL (strict to set enums); table is "games" or the name used while migrating */
+    private static String gamesDdl(String table) {
+        return """
+            CREATE TABLE IF NOT EXISTS %s(
+              id          INTEGER PRIMARY KEY,
+              name        TEXT NOT NULL,
+              platform_id INTEGER NOT NULL REFERENCES platforms(id),
+              status      TEXT NOT NULL CHECK (status IN ('UNPLAYED','PLAYING','BEATEN')),
+              priority    INTEGER NOT NULL CHECK (priority BETWEEN 1 AND 5),
+              ownership   TEXT NOT NULL CHECK (ownership IN ('PHYSICAL','DIGITAL')),
+              version     INTEGER NOT NULL DEFAULT 0
+            )""".formatted(table);
+    }
+
+    /**
+     * Create tables if missing. Platforms live in their own table (one row per platform, any
+     * capitalisation) and games point at it by id; game_rows joins them back for plain SQL use.
+     * A database from before that (games.platform text) is converted once.
+     */
+    private void ensureTable() {
+        try (Statement st = connection().createStatement()) {
+            st.executeUpdate("""
+                CREATE TABLE IF NOT EXISTS platforms(
+                  id     INTEGER PRIMARY KEY,
+                  name   TEXT NOT NULL,
+                  folded TEXT NOT NULL UNIQUE
+                )""");
+            if (hasColumn(st, "games", "platform")) migratePlatformColumn();
+            st.executeUpdate(gamesDdl("games"));
+            if (!hasColumn(st, "games", "version")) {
+                st.executeUpdate("ALTER TABLE games ADD COLUMN version INTEGER NOT NULL DEFAULT 0");
+            }
+            st.executeUpdate("""
+                CREATE VIEW IF NOT EXISTS game_rows AS
+                  SELECT g.id, g.name, p.name AS platform, g.status, g.priority, g.ownership
+                  FROM games g JOIN platforms p ON p.id = g.platform_id""");
+            // for filters and the PAGED report (GROUP BY status) when the rows are not in memory
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_games_status ON games(status)");
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_games_ownership ON games(ownership)");
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_games_platform ON games(platform_id)");
+        } catch (SQLException e) {
+            System.out.println("⚠️ ensureTable: " + e.getMessage());
+        }
+        loadPlatforms();
+        boolean newSearchTable = ensureSearchTable();
+        // after games_fts: a games trigger listed before it breaks SQLite's schema reload
+        ensureSnapshotStamp(newSearchTable);
+        ensureChangeLog(newSearchTable);
+    }
+
+    /** true if table has that column */
+    private static boolean hasColumn(Statement st, String table, String column) throws SQLException {
+        try (ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) if (rs.getString("name").equalsIgnoreCase(column)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * One-time upgrade of an old database: every distinct platform text gets a platforms row
+     * (spellings that differ only in case/spaces share one, first by id wins), then games is
+     * rebuilt with platform_id in one transaction. Ids, names and everything else stay as is.
+     */
+    private void migratePlatformColumn() throws SQLException {
+        Connection c = connection();
+        c.setAutoCommit(false);
+        try (Statement st = c.createStatement()) {
+            PlatformDictionary found = new PlatformDictionary();
+            st.executeUpdate("CREATE TEMP TABLE platform_map(spelling TEXT PRIMARY KEY, id INTEGER NOT NULL)");
+            try (ResultSet rs = st.executeQuery("SELECT platform FROM games GROUP BY platform ORDER BY MIN(id)");
+                 PreparedStatement map = c.prepareStatement("INSERT INTO platform_map(spelling, id) VALUES(?,?)")) {
+                while (rs.next()) {
+                    String spelling = rs.getString(1);
+                    map.setString(1, spelling);
+                    map.setInt(2, found.intern(spelling == null || spelling.isBlank() ? "Unknown" : spelling));
+                    map.addBatch();
+                }
+                map.executeBatch();
+            }
+            try (PreparedStatement add = c.prepareStatement("INSERT INTO platforms(id, name, folded) VALUES(?,?,?)")) {
+                for (int code = 1; found.name(code) != null; code++) {
+                    add.setInt(1, code);
+                    add.setString(2, found.name(code));
+                    add.setString(3, PlatformDictionary.key(found.name(code)));
+                    add.addBatch();
+                }
+                add.executeBatch();
+            }
+            st.executeUpdate(gamesDdl("games_migrating"));
+            // odd status/ownership words (old CHECKs allowed more) map the same way toStatus/toOwnership read them
+            st.executeUpdate("INSERT INTO games_migrating(id,name,platform_id,status,priority,ownership)"
+                    + " SELECT g.id, g.name, m.id,"
+                    + " CASE upper(trim(g.status)) WHEN 'PLAYING' THEN 'PLAYING' WHEN 'BEATEN' THEN 'BEATEN' ELSE 'UNPLAYED' END,"
+                    + " g.priority,"
+                    + " CASE upper(trim(g.ownership)) WHEN 'PHYSICAL' THEN 'PHYSICAL' ELSE 'DIGITAL' END"
+                    + " FROM games g JOIN platform_map m ON m.spelling = g.platform");
+            st.executeUpdate("DROP TABLE games"); // its indexes and triggers go with it (made again after)
+            st.executeUpdate("ALTER TABLE games_migrating RENAME TO games");
+            st.executeUpdate("DROP TABLE temp.platform_map");
+            c.commit();
+        } catch (SQLException e) {
+            c.rollback();
+            throw e;
+        } finally {
+            c.setAutoCommit(true);
+        }
+    }
+
+    /** (re)reads the platforms table into the dictionary, keeping the String objects Games already share */
+    private void loadPlatforms() {
+        try (ResultSet rs = prepared("SELECT id, name FROM platforms").executeQuery()) {
+            Map<Integer, String> rows = new HashMap<>();
+            while (rs.next()) {
+                int code = rs.getInt(1);
+                String name = rs.getString(2);
+                String shared = platforms.name(code);
+                rows.put(code, name.equals(shared) ? shared : name);
+            }
+            platforms.clear();
+            rows.forEach(platforms::put);
+        } catch (SQLException e) {
+            System.out.println("⚠️ loadPlatforms: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Platforms-table id for platform, adding a platforms row the first time a platform is seen
+     * (write lock held). The row is part of whatever transaction is open, so a caller that
+     * rolls back must loadPlatforms() to drop it from the dictionary too.
+     */
+    private int platformCode(String platform) throws SQLException {
+        int code = platforms.code(platform);
+        if (code < 0) {
+            PreparedStatement add = prepared("INSERT OR IGNORE INTO platforms(name, folded) VALUES(?,?)");
+            add.setString(1, PlatformDictionary.spelling(platform));
+            add.setString(2, PlatformDictionary.key(platform));
+            add.executeUpdate();
+            PreparedStatement find = prepared("SELECT id, name FROM platforms WHERE folded=?");
+            find.setString(1, PlatformDictionary.key(platform));
+            try (ResultSet rs = find.executeQuery()) {
+                if (!rs.next()) throw new SQLException("platform row missing for " + platform);
+                code = rs.getInt(1);
+                platforms.put(code, rs.getString(2));
+            }
+        }
+        return code;
+    }
+
+    /**
+     * g if its platform already is the canonical spelling ("pc" -> "PC") and shared String for
+     * code, otherwise a copy that has it, so memory matches what a reload would give
+     */
+    private Game withPlatform(Game g, int code) {
+        String canonical = platforms.name(code);
+        if (canonical == g.getPlatform()) return g;
+        Game copy = copyOf(g);
+        copy.setPlatform(canonical);
+        return copy;
+    }
+
+    /** canonical platform String for a platforms-table id (reloads once for one added elsewhere) */
+    private String platformName(int code) {
+        String name = platforms.name(code);
+        if (name == null) {
+            loadPlatforms();
+            name = platforms.name(code);
+        }
+        return name != null ? name : "Unknown";
+    }
+
+    /** canonical spelling for a filter value (null stays null = any platform) */
+    private String knownPlatform(String platform) {
+        return platform == null ? null : platforms.canonical(platform);
+    }
+
+    /**
+     * FTS5 table over games.name for searchByName in PAGED mode, kept in step by triggers
+     * (external content: the names are not stored twice). Filled once when it is first made.
+     * If this SQLite has no FTS5, searches fall back to LIKE.
+     */
+    private boolean ensureSearchTable() {
+        try (Statement st = connection().createStatement()) {
+            boolean existed;
+            try (ResultSet rs = st.executeQuery("SELECT 1 FROM sqlite_master WHERE name='games_fts'")) {
+                existed = rs.next();
+            }
+            st.executeUpdate("CREATE VIRTUAL TABLE IF NOT EXISTS games_fts USING fts5("
+                    + "name, content='games', content_rowid='id', tokenize='unicode61 remove_diacritics 2')");
+            st.executeUpdate("""
+                CREATE TRIGGER IF NOT EXISTS games_fts_insert AFTER INSERT ON games BEGIN
+                  INSERT INTO games_fts(rowid, name) VALUES (new.id, new.name);
+                END""");
+            st.executeUpdate("""
+                CREATE TRIGGER IF NOT EXISTS games_fts_delete AFTER DELETE ON games BEGIN
+                  INSERT INTO games_fts(games_fts, rowid, name) VALUES ('delete', old.id, old.name);
+                END""");
+            st.executeUpdate("""
+                CREATE TRIGGER IF NOT EXISTS games_fts_update AFTER UPDATE OF id, name ON games BEGIN
+                  INSERT INTO games_fts(games_fts, rowid, name) VALUES ('delete', old.id, old.name);
+                  INSERT INTO games_fts(rowid, name) VALUES (new.id, new.name);
+                END""");
+            if (!existed) st.executeUpdate("INSERT INTO games_fts(games_fts) VALUES ('rebuild')");
+            fullTextSearch = true;
+            return !existed;
+        } catch (SQLException e) {
+            fullTextSearch = false;
+            System.out.println("⚠️ ensureSearchTable (search falls back to LIKE): " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * library_meta holds the stamp of the last snapshot close() saved. Any write to games or
+     * platforms (from this library, another process or a plain SQLite tool) deletes it through
+     * these triggers, which is how the next load knows the snapshot is out of date.
+     * recreate drops them first so they come after a games_fts that was just made.
+     */
+    private void ensureSnapshotStamp(boolean recreate) {
+        try (Statement st = connection().createStatement()) {
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS library_meta(key TEXT PRIMARY KEY, value INTEGER NOT NULL) WITHOUT ROWID");
+            for (String table : new String[] {"games", "platforms"}) {
+                for (String event : new String[] {"INSERT", "UPDATE", "DELETE"}) {
+                    if (recreate) st.executeUpdate("DROP TRIGGER IF EXISTS %s_snapshot_%s".formatted(table, event.toLowerCase(Locale.ROOT)));
+                    st.executeUpdate(("CREATE TRIGGER IF NOT EXISTS %s_snapshot_%s AFTER %s ON %s"
+                            + " WHEN EXISTS (SELECT 1 FROM library_meta WHERE key='snapshot')"
+                            + " BEGIN DELETE FROM library_meta WHERE key='snapshot'; END")
+                            .formatted(table, event.toLowerCase(Locale.ROOT), event, table));
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("⚠️ ensureSnapshotStamp: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Change tracking for sync(). library_meta 'version' counts write transactions to games
+     * (bumpVersion); every row this library writes gets that count in games.version, bound by
+     * the write itself, so these triggers skip it. A row another SQLite client writes without
+     * that count (inserted with some other version, or updated without setting version) is
+     * stamped with count + 1, which no library has synced past yet. Tombstones get count + 1
+     * too: a deleted id (or the old id of a renumbered game) goes into games_deleted, and a
+     * row that comes back leaves it. Rows from before this existed have version 0, which
+     * every library has already seen.
+     * recreate: same as ensureSnapshotStamp.
+     */
+    private void ensureChangeLog(boolean recreate) {
+        String current = "(SELECT value FROM library_meta WHERE key='version')";
+        String next = "(SELECT value + 1 FROM library_meta WHERE key='version')";
+        try (Statement st = connection().createStatement()) {
+            st.executeUpdate("INSERT OR IGNORE INTO library_meta(key, value) VALUES('version', 0)");
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS games_deleted(id INTEGER PRIMARY KEY, version INTEGER NOT NULL)");
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_games_version ON games(version)");
+            st.executeUpdate("CREATE INDEX IF NOT EXISTS idx_games_deleted_version ON games_deleted(version)");
+            if (recreate) {
+                for (String t : new String[] {"games_stamp_insert", "games_stamp_update",
+                        "games_tombstone_insert", "games_tombstone_update", "games_tombstone_delete"}) {
+                    st.executeUpdate("DROP TRIGGER IF EXISTS " + t);
+                }
+            }
+            st.executeUpdate("CREATE TRIGGER IF NOT EXISTS games_stamp_insert AFTER INSERT ON games"
+                    + " WHEN new.version IS NOT " + current
+                    + " BEGIN UPDATE games SET version = " + next + " WHERE id = new.id; END");
+            // not OF version: the stamp above (a version-only UPDATE) does not set it off again
+            st.executeUpdate("CREATE TRIGGER IF NOT EXISTS games_stamp_update"
+                    + " AFTER UPDATE OF id, name, platform_id, status, priority, ownership ON games"
+                    + " WHEN new.version IS old.version"
+                    + " BEGIN UPDATE games SET version = " + next + " WHERE id = new.id; END");
+            st.executeUpdate("CREATE TRIGGER IF NOT EXISTS games_tombstone_insert AFTER INSERT ON games"
+                    + " WHEN EXISTS (SELECT 1 FROM games_deleted WHERE id = new.id)"
+                    + " BEGIN DELETE FROM games_deleted WHERE id = new.id; END");
+            st.executeUpdate("CREATE TRIGGER IF NOT EXISTS games_tombstone_update AFTER UPDATE OF id ON games"
+                    + " WHEN old.id <> new.id BEGIN"
+                    + " INSERT OR REPLACE INTO games_deleted(id, version) VALUES (old.id, " + next + ");"
+                    + " DELETE FROM games_deleted WHERE id = new.id; END");
+            st.executeUpdate("CREATE TRIGGER IF NOT EXISTS games_tombstone_delete AFTER DELETE ON games BEGIN"
+                    + " INSERT OR REPLACE INTO games_deleted(id, version) VALUES (old.id, " + next + "); END");
+        } catch (SQLException e) {
+            System.out.println("⚠️ ensureChangeLog: " + e.getMessage());
+        }
+    }
+
+    /** Load all rows (from the snapshot file when it is still current, otherwise from DB), mapping any odd values to enums */
+    private void reloadFromDb() {
+        clearInMemory();
+        loaded = true; // even if the read fails, like the old eager load (no retry on every call)
+        try {
+            markSynced(); // before the rows, so a commit while reading them still counts
+            if (loadFromSnapshot()) return;
+            try (ResultSet rs = prepared(SELECT_ALL_SQL).executeQuery()) {
+                while (rs.next()) {
+                    addInMemory(readGame(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("⚠️ reloadFromDb: " + e.getMessage());
+        }
+    }
+
+    private void clearInMemory() {
+        games.clear();
+        byId.clear();
+        stats.clear();
+        filters.clear();
+        names = null; // rebuilt by the next search
+    }
+
+    /** write-behind: queues g's row; returns what bindGame would (g or a copy with the canonical platform) */
+    private Game queueUpsert(Game g) throws SQLException {
+        retryFailedFlush();
+        int code;
+        flushing = true; // a new platforms row can be saved without saving the queue first
+        try {
+            code = platformCode(g.getPlatform()); // adds a platforms row right away if g's platform is new
+        } finally {
+            flushing = false;
+        }
+        Game saved = withPlatform(g, code);
+        writeBehind.upsert(saved);
+        return saved;
+    }
+
+    /** write-behind: queues the delete of id */
+    private void queueDelete(int id) throws SQLException {
+        retryFailedFlush();
+        writeBehind.delete(id);
+    }
+
+    /** an edit after a failed background save first saves what is queued (and fails if it still cannot) */
+    private void retryFailedFlush() throws SQLException {
+        if (writeBehind.failure() != null) writePending();
+    }
+
+    /**
+     * Saves every queued edit in one transaction, deletes first (a renumbered game frees its
+     * old id before another row may take it). On failure nothing is saved and the edits go
+     * back on the queue (write lock held).
+     */
+    private void writePending() throws SQLException {
+        Map<Integer, Game> batch = writeBehind.drain();
+        if (batch.isEmpty()) return;
+        flushing = true;
+        PreparedStatement delete = null, upsert = null;
+        try {
+            Connection c = connection();
+            c.setAutoCommit(false);
+            try {
+                bumpVersion();
+                delete = prepared(DELETE_SQL);
+                upsert = prepared(UPSERT_SQL);
+                for (Map.Entry<Integer, Game> e : batch.entrySet()) {
+                    if (e.getValue() != null) continue;
+                    delete.setInt(1, e.getKey());
+                    delete.addBatch();
+                }
+                delete.executeBatch();
+                for (Game g : batch.values()) {
+                    if (g == null) continue;
+                    bindGame(upsert, g);
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+                c.commit();
+                writeBehind.saved();
+            } catch (SQLException e) {
+                clearBatch(delete);
+                clearBatch(upsert);
+                try { c.rollback(); } catch (SQLException ignored) { }
+                throw e;
+            } finally {
+                c.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            writeBehind.restore(batch, e.getMessage());
+            throw e;
+        } finally {
+            flushing = false;
+        }
+    }
+
+    /** runs on the write-behind thread */
+    private void flushInBackground() {
+        long stamp = lock.writeLock();
+        try {
+            if (writeBehind == null || connection == null) return; // turned off or closed meanwhile
+            writePending();
+        } catch (SQLException e) {
+            // stays queued; flush() and the next edit report it
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Saves what is queued and leaves write-behind mode; null if it all got saved, otherwise
+     * what was lost. reload: read the rows again after a loss (memory still shows the lost edits).
+     */
+    private String stopWriteBehind(boolean reload) {
+        if (writeBehind == null) return null;
+        String unsaved = null;
+        if (!writeBehind.isEmpty() && connection != null) {
+            int n = writeBehind.size();
+            try {
+                writePending();
+            } catch (SQLException e) {
+                unsaved = n + " queued edit(s) could not be saved: " + e.getMessage();
+            }
+        }
+        writeBehind.shutdown();
+        writeBehind = null;
+        if (unsaved != null && reload) reloadFromDb();
+        if (flushOnExit != null && Thread.currentThread() != flushOnExit) {
+            try { Runtime.getRuntime().removeShutdownHook(flushOnExit); } catch (IllegalStateException ignored) { }
+        }
+        flushOnExit = null;
+        return unsaved;
+    }
+
+    /** fills memory from the snapshot file if its stamp matches the database; false = read the table instead */
+    private boolean loadFromSnapshot() {
+        if (snapshotFile == null) return false;
+        try {
+            long stamp = storedSnapshotStamp();
+            LibrarySnapshot snapshot = stamp == 0 ? null : LibrarySnapshot.open(snapshotFile, stamp);
+            if (snapshot == null) return false;
+            byId.ensureCapacity(snapshot.size());
+            if (columns == null) ((ArrayList<Game>) games).ensureCapacity(snapshot.size());
+            for (int r = 0; r < snapshot.size(); r++) {
+                addInMemory(new Game(snapshot.id(r), snapshot.name(r), platformName(snapshot.platformId(r)),
+                        snapshot.status(r), snapshot.priority(r), snapshot.ownership(r)));
+            }
+            snapshotStamp = stamp;
+            return true;
+        } catch (IOException | SQLException | RuntimeException e) {
+            System.out.println("⚠️ snapshot ignored, reading the table instead: " + e.getMessage());
+            clearInMemory();
+            return false;
+        }
+    }
+
+    /**
+     * close(): writes the snapshot for the next load, only if memory is known to match the
+     * database (no other connection committed since the rows were read) and something changed
+     * since the last one. The stamp is stored in the same transaction, so a crash in between
+     * leaves a snapshot that is simply not used.
+     */
+    private void saveSnapshot() {
+        try (Statement st = connection().createStatement()) {
+            st.executeUpdate("BEGIN IMMEDIATE"); // no other commit until the stamp is stored
+            boolean commit = false;
+            try {
+                if (readDataVersion() != dataVersion) return; // someone else wrote: memory may be behind
+                long stored = storedSnapshotStamp();
+                if (stored != 0 && stored == snapshotStamp && Files.exists(snapshotFile)) return; // still current
+
+                List<Game> inIdOrder = new ArrayList<>(games); // same order as a load from the table
+                inIdOrder.sort(Comparator.comparingInt(Game::getId));
+                long stamp = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+                LibrarySnapshot.write(snapshotFile, stamp, inIdOrder, this::knownPlatformId);
+                PreparedStatement ps = prepared("INSERT OR REPLACE INTO library_meta(key, value) VALUES('snapshot', ?)");
+                ps.setLong(1, stamp);
+                ps.executeUpdate();
+                snapshotStamp = stamp;
+                commit = true;
+            } finally {
+                st.executeUpdate(commit ? "COMMIT" : "ROLLBACK");
+            }
+        } catch (SQLException | IOException | IllegalStateException e) {
+            System.out.println("⚠️ snapshot not saved: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remembers where the database is now (change counter, then data_version). Called before
+     * rows are read: anything committed after is either in the rows or caught by sync() later.
+     */
+    private void markSynced() {
+        try {
+            syncedVersion = readChangeVersion();
+            dataVersion = readDataVersion();
+        } catch (SQLException e) {
+            System.out.println("⚠️ markSynced: " + e.getMessage());
+        }
+    }
+
+    /**
+     * sync() with the write lock held. Reads inside one transaction, so the counter, the
+     * tombstones and the rows all come from the same state of the database.
+     */
+    private int syncChanges() {
+        if (connection == null) return 0; // closed (a timer may still fire once)
+        try {
+            Connection c = connection();
+            c.setAutoCommit(false);
+            try {
+                long now = readChangeVersion();
+                long dv = readDataVersion();
+                if (dv == dataVersion) { // only this library has written since: nothing to read
+                    syncedVersion = now;
+                    return 0;
+                }
+                int changed = 0;
+                PreparedStatement deleted = prepared("SELECT id FROM games_deleted WHERE version > ?");
+                deleted.setLong(1, syncedVersion);
+                int[] gone = new int[16];
+                int goneCount = 0;
+                try (ResultSet rs = deleted.executeQuery()) {
+                    while (rs.next()) {
+                        int id = rs.getInt(1);
+                        if (loaded && !byId.contains(id)) continue;
+                        if (loaded) {
+                            if (goneCount == gone.length) gone = Arrays.copyOf(gone, goneCount * 2);
+                            gone[goneCount++] = id;
+                        }
+                        changed++;
+                    }
+                }
+                removeInMemory(gone, goneCount); // one pass, before the rows look up positions
+                PreparedStatement rows = prepared(SELECT_CHANGED_SQL);
+                rows.setLong(1, syncedVersion);
+                rows.setFetchSize(PAGE_FETCH_SIZE);
+                try (ResultSet rs = rows.executeQuery()) {
+                    while (rs.next()) {
+                        if (!loaded) { changed++; continue; }
+                        Game g = readGame(rs);
+                        int pos = byId.positionOf(g.getId());
+                        if (pos < 0) addInMemory(g);
+                        else if (!sameValues(games.get(pos), g)) replaceInMemory(g.getId(), pos, g);
+                        else continue; // this library's own write
+                        changed++;
+                    }
+                }
+                syncedVersion = now;
+                dataVersion = dv;
+                return changed;
+            } finally {
+                c.commit();
+                c.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.out.println("⚠️ sync: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private long readChangeVersion() throws SQLException {
+        try (ResultSet rs = prepared("SELECT value FROM library_meta WHERE key='version'").executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Counts one more write transaction and makes the new count writeVersion, which bindGame
+     * (and the other writes) store in games.version. Call once, inside the open transaction,
+     * before its first write to games, so the count and the rows commit together.
+     */
+    private void bumpVersion() throws SQLException {
+        prepared("UPDATE library_meta SET value = value + 1 WHERE key='version'").executeUpdate();
+        writeVersion = readChangeVersion();
+    }
+
+    /** work for writeTransaction */
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T run() throws SQLException;
+    }
+
+    /**
+     * Runs a single-game write as one transaction with its own version (bumpVersion). On failure
+     * it is all rolled back, a platforms row it added too.
+     */
+    private <T> T writeTransaction(SqlWork<T> work) throws SQLException {
+        Connection c = connection();
+        c.setAutoCommit(false);
+        try {
+            bumpVersion();
+            T result = work.run();
+            c.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            c.rollback();
+            loadPlatforms();
+            throw e;
+        } finally {
+            c.setAutoCommit(true);
+        }
+    }
+
+    /** the stamp of the snapshot that matches the database, or 0 */
+    private long storedSnapshotStamp() throws SQLException {
+        try (ResultSet rs = prepared("SELECT value FROM library_meta WHERE key='snapshot'").executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private long readDataVersion() throws SQLException {
+        try (ResultSet rs = prepared("PRAGMA data_version").executeQuery()) {
+            return rs.next() ? rs.getLong(1) : -1;
+        }
+    }
+
+    /** platforms-table id of an in-memory game's platform (always known once it is stored) */
+    private int knownPlatformId(String platform) {
+        int code = platforms.code(platform);
+        if (code < 0) throw new IllegalStateException("platform not in the platforms table: " + platform);
+        return code;
+    }
+
+    /** PAGED mode: pulls every row in the first time something needs the whole library (caller holds the write lock) */
+    private void ensureLoaded() {
+        if (!loaded) reloadFromDb();
+    }
+
+    /** ensureLoaded for callers holding no lock (loaded never goes back to false, so a read lock is enough after) */
+    private void loadAll() {
+        if (loaded) return;
+        long stamp = lock.writeLock();
+        try {
+            ensureLoaded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** the game with this id from memory or SQLite, or null (caller holds the write lock) */
+    private Game lookup(int id) throws SQLException {
+        return loaded ? resident(id) : fetchById(id);
+    }
+
+    /** the report from the running stats (caller holds a read lock or validates an optimistic one) */
+    private String statsReport(int topNumber) {
+        int size = games.size();
+        if (size == 0) return "No games loaded yet.";
+
+        int keep = Math.max(0, Math.min(topNumber, size));
+        int[] positions = new int[keep];
+        int[] scores = new int[keep];
+        int shown = stats.top(keep, positions, scores);
+        List<Game> top = new ArrayList<>(shown);
+        for (int i = 0; i < shown; i++) top.add(games.get(positions[i]));
+
+        return formatReport(size, stats.count(Game.Status.UNPLAYED), stats.count(Game.Status.PLAYING),
+                stats.count(Game.Status.BEATEN), topNumber, top, scores);
+    }
+
+    /** one row by id straight from SQLite, or null */
+    private Game fetchById(int id) throws SQLException {
+        PreparedStatement ps = prepared(SELECT_ONE_SQL);
+        ps.setInt(1, id);
+        try (ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? readGame(rs) : null;
+        }
+    }
+
+    /** the games at the set positions, in position order (caller holds a lock) */
+    private List<Game> gamesAt(BitSet positions) {
+        List<Game> out = new ArrayList<>(positions.cardinality());
+        for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) out.add(games.get(p));
+        return out;
+    }
+
+    /** the in-memory game with this id, or null (a fresh Game in COMPACT mode; caller holds a lock) */
+    private Game resident(int id) {
+        if (columns == null) return byId.get(id);
+        int pos = byId.positionOf(id);
+        return pos < 0 ? null : columns.get(pos);
+    }
+
+    /** id of the game at position, read from the column in COMPACT mode */
+    private int idAt(int position) {
+        return columns != null ? columns.idAt(position) : games.get(position).getId();
+    }
+
+    /** priority of the game at position, read from the column in COMPACT mode */
+    private int priorityAt(int position) {
+        return columns != null ? columns.priorityAt(position) : games.get(position).getPriority();
+    }
+
+    /** the resident games for these ids, same order (caller holds a lock) */
+    private List<Game> gamesWithIds(int[] ids) {
+        List<Game> out = new ArrayList<>(ids.length);
+        for (int id : ids) out.add(resident(id));
+        return out;
+    }
+
+    /** PAGED search: FTS5 prefix match ranked by bm25, or LIKE when there is no FTS5 (write lock held) */
+    private List<Game> sqlSearch(String query, int limit) throws SQLException {
+        String folded = NameIndex.fold(query);
+        PreparedStatement ps;
+        if (fullTextSearch) {
+            ps = prepared("SELECT g.id,g.name,g.platform_id,g.status,g.priority,g.ownership"
+                    + " FROM games_fts JOIN games g ON g.id = games_fts.rowid"
+                    + " WHERE games_fts MATCH ? ORDER BY games_fts.rank, length(g.name), g.id LIMIT ?");
+            StringJoiner match = new StringJoiner(" ");
+            for (String word : folded.split(" ")) match.add("\"" + word + "\"*"); // every word, as a prefix
+            ps.setString(1, match.toString());
+        } else {
+            ps = prepared("SELECT id,name,platform_id,status,priority,ownership FROM games"
+                    + " WHERE name LIKE ? ESCAPE '\\' ORDER BY length(name), id LIMIT ?");
+            ps.setString(1, likePattern(query));
+        }
+        ps.setInt(2, limit);
+        return readPage(ps, limit);
+    }
+
+    /** LIKE pattern for "name contains query": % and _ in the text are matched literally (ESCAPE '\') */
+    static String likePattern(String query) {
+        StringBuilder sb = new StringBuilder("%");
+        for (char c : query.trim().toCharArray()) {
+            if (c == '%' || c == '_' || c == '\\') sb.append('\\');
+            sb.append(c);
+        }
+        return sb.append('%').toString();
+    }
+
+    /** " WHERE status=? AND ..." for the filters q sets (empty when it sets none; columns only games has) */
+    private static String whereClause(GameQuery q) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        if (q.status() != null) where.add("status=?");
+        if (q.ownership() != null) where.add("ownership=?");
+        if (q.platform() != null) where.add("platform_id=?");
+        if (!q.anyPriority()) where.add("priority>=?");
+        return where.toString();
+    }
+
+    /** binds the values whereClause asked for, in the same order; returns the next free index */
+    private int bindFilter(PreparedStatement ps, GameQuery q) throws SQLException {
+        return bindFilter(ps, q, q.platform() == null ? -1 : platforms.code(q.platform()));
+    }
+
+    /** bindFilter with q's platform already looked up (-1 = unknown, matches nothing) */
+    private static int bindFilter(PreparedStatement ps, GameQuery q, int platformCode) throws SQLException {
+        int i = 1;
+        if (q.status() != null) ps.setString(i++, q.status().name());
+        if (q.ownership() != null) ps.setString(i++, q.ownership().name());
+        if (q.platform() != null) ps.setInt(i++, platformCode);
+        if (!q.anyPriority()) ps.setInt(i++, q.minPriority());
+        return i;
+    }
+
+    /**
+     * Query on the indexes (caller holds a lock): AND of the bitsets, then priority, then one
+     * sort of (score, id) or id keys for just the hits.
+     */
+    private List<Game> queryInMemory(GameQuery q) {
+        BitSet positions = filters.matching(q.status(), q.ownership(), knownPlatform(q.platform()), games.size());
+        long[] keys = new long[positions.cardinality()];
+        int n = 0;
+        boolean byScore = q.order() == GameQuery.Order.SCORE;
+        for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) {
+            if (priorityAt(p) < q.minPriority()) continue;
+            // highest score first = smallest -score; the id in the low half breaks ties
+            keys[n++] = byScore ? ((long) -stats.scoreAt(p) << 32) | idAt(p) : idAt(p);
+        }
+        Arrays.sort(keys, 0, n);
+        List<Game> out = new ArrayList<>(Math.min(n, q.limit()));
+        for (int i = 0; i < n && i < q.limit(); i++) out.add(resident((int) keys[i]));
+        return out;
+    }
+
+    /** number of in-memory hits before the limit (caller holds a lock) */
+    private int countInMemory(GameQuery q) {
+        BitSet positions = filters.matching(q.status(), q.ownership(), knownPlatform(q.platform()), games.size());
+        if (q.anyPriority()) return positions.cardinality();
+        int n = 0;
+        for (int p = positions.nextSetBit(0); p >= 0; p = positions.nextSetBit(p + 1)) {
+            if (priorityAt(p) >= q.minPriority()) n++;
+        }
+        return n;
+    }
+
+    /**
+     * Query in SQLite (write lock held). Order by id, or by score when the strategy is DEFAULT
+     * (it has a SQL form), is pushed down with the limit, so only those rows are read.
+     * Another strategy only exists in Java, so its hits are read and ranked here.
+     */
+    private List<Game> queryInSql(GameQuery q) throws SQLException {
+        boolean rankInJava = q.order() == GameQuery.Order.SCORE && scoring != ScoringStrategy.DEFAULT;
+        String orderBy = switch (q.order()) {
+            case ID -> " ORDER BY id LIMIT ?";
+            case SCORE -> rankInJava ? "" : " ORDER BY " + DEFAULT_SCORE_SQL + " DESC, id LIMIT ?";
+        };
+        PreparedStatement ps = prepared("SELECT id,name,platform_id,status,priority,ownership FROM games"
+                + whereClause(q) + orderBy);
+        int next = bindFilter(ps, q);
+        if (!rankInJava) ps.setInt(next, q.limit());
+        ps.setFetchSize(PAGE_FETCH_SIZE);
+
+        List<Game> hits = new ArrayList<>();
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) hits.add(readGame(rs));
+        }
+        if (!rankInJava) return hits;
+        hits.sort(Comparator.comparingInt((Game g) -> -scoreFor(g)).thenComparingInt(Game::getId));
+        return hits.size() > q.limit() ? new ArrayList<>(hits.subList(0, q.limit())) : hits;
+    }
+
+    /** runs a page query; games that are already in memory come back as the same objects */
+    private List<Game> readPage(PreparedStatement ps, int limit) throws SQLException {
+        List<Game> page = new ArrayList<>(Math.min(limit, PAGE_FETCH_SIZE));
+        ps.setFetchSize(Math.min(limit, PAGE_FETCH_SIZE));
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                Game resident = loaded && columns == null ? byId.get(rs.getInt("id")) : null;
+                page.add(resident != null ? resident : readGame(rs));
+            }
+        }
+        return page;
+    }
+
+    /** builds a Game from the current row (the platform String is the dictionary's shared one) */
+    private Game readGame(ResultSet rs) throws SQLException {
+        return new Game(
+                rs.getInt("id"),
+                rs.getString("name"),
+                platformName(rs.getInt("platform_id")),
+                toStatus(rs.getString("status")),
+                rs.getInt("priority"),
+                toOwnership(rs.getString("ownership"))
+        );
+    }
+
+    /**
+     * The report straight from SQLite for a PAGED library with the default score: counts with
+     * GROUP BY and the top N with ORDER BY score, id (same order as a freshly loaded list).
+     */
+    private String sqlBacklogReport(int topNumber) {
+        long unplayed = 0, playing = 0, beaten = 0;
+        List<Game> top = new ArrayList<>();
+        try {
+            try (ResultSet rs = prepared(STATUS_COUNTS_SQL).executeQuery()) {
+                while (rs.next()) {
+                    switch (toStatus(rs.getString(1))) {
+                        case UNPLAYED -> unplayed += rs.getLong(2);
+                        case PLAYING  -> playing += rs.getLong(2);
+                        case BEATEN   -> beaten += rs.getLong(2);
+                    }
+                }
+            }
+            PreparedStatement ps = prepared(TOP_BY_DEFAULT_SCORE_SQL);
+            ps.setInt(1, Math.max(0, topNumber));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) top.add(readGame(rs));
+            }
+        } catch (SQLException e) {
+            return "❌ DB error building report: " + e.getMessage();
+        }
+        long total = unplayed + playing + beaten;
+        if (total == 0) return "No games loaded yet.";
+
+        int[] scores = new int[top.size()];
+        for (int i = 0; i < scores.length; i++) scores[i] = scoreFor(top.get(i));
+        return formatReport(total, unplayed, playing, beaten, topNumber, top, scores);
+    }
+
+    /** the report text (shared by the in-memory and the SQL version) */
+    private static String formatReport(long total, long unplayed, long playing, long beaten,
+                                       int topNumber, List<Game> top, int[] scores) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("📊 Backlog Health\n")
+                .append("Total: ").append(total)
+                .append(" | Unplayed: ").append(unplayed)
+                .append(" | Playing: ").append(playing)
+                .append(" | Beaten: ").append(beaten).append("\n\n")
+                .append("🔥 Top ").append(Math.min(topNumber, total)).append(" To Tackle Next:\n");
+        for (int i = 0; i < top.size(); i++) {
+            Game g = top.get(i);
+            sb.append(String.format("%d) [%d] %s (score=%d)\n", i + 1, g.getId(), g.getName(), scores[i]));
+        }
+        return sb.toString();
+    }
+
     /** Map any unexpected status to a supported enum */
     private static Game.Status toStatus(String s) {
         if (s == null) return Game.Status.UNPLAYED;
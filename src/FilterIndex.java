@@ -0,0 +1,132 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * FilterIndex.java
+ * ------------------------------------
+ * Bitset indexes over DbLibrary's game list: one BitSet per status, per ownership and per platform
+ * Bit p is set when the game at list position p has that value
+ * A filter like "UNPLAYED and PHYSICAL and PS5" is then a couple of BitSet ANDs, not a scan
+ */
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mirrors the list position by position, the same way BacklogStats does (removes included).
+ * Callers pass the old Game on change so its bits can be taken out.
+ */
+final class FilterIndex {
+
+    private final EnumMap<Game.Status, BitSet> byStatus = new EnumMap<>(Game.Status.class);
+    private final EnumMap<Game.Ownership, BitSet> byOwnership = new EnumMap<>(Game.Ownership.class);
+    private final Map<String, BitSet> byPlatform = new HashMap<>(); // exact platform text
+
+    FilterIndex() {
+        for (Game.Status s : Game.Status.values()) byStatus.put(s, new BitSet());
+        for (Game.Ownership o : Game.Ownership.values()) byOwnership.put(o, new BitSet());
+    }
+
+    /** game was appended at position */
+    void append(int position, Game game) {
+        set(position, game);
+    }
+
+    /** the game at position was replaced (before -> after) */
+    void change(int position, Game before, Game after) {
+        if (before.getStatus() != after.getStatus()) {
+            byStatus.get(before.getStatus()).clear(position);
+            byStatus.get(after.getStatus()).set(position);
+        }
+        if (before.getOwnership() != after.getOwnership()) {
+            byOwnership.get(before.getOwnership()).clear(position);
+            byOwnership.get(after.getOwnership()).set(position);
+        }
+        if (!before.getPlatform().equals(after.getPlatform())) {
+            clearPlatform(position, before.getPlatform());
+            byPlatform.computeIfAbsent(after.getPlatform(), k -> new BitSet()).set(position);
+        }
+    }
+
+    /** the list dropped the gone positions (sorted, see ListGaps); later bits move down */
+    void removeAt(int[] gone, int count) {
+        for (Map.Entry<Game.Status, BitSet> e : byStatus.entrySet()) e.setValue(ListGaps.close(e.getValue(), gone, count));
+        for (Map.Entry<Game.Ownership, BitSet> e : byOwnership.entrySet()) e.setValue(ListGaps.close(e.getValue(), gone, count));
+        Iterator<Map.Entry<String, BitSet>> it = byPlatform.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, BitSet> e = it.next();
+            e.setValue(ListGaps.close(e.getValue(), gone, count));
+            if (e.getValue().isEmpty()) it.remove(); // no game has that platform any more
+        }
+    }
+
+    /** forgets everything */
+    void clear() {
+        for (BitSet b : byStatus.values()) b.clear();
+        for (BitSet b : byOwnership.values()) b.clear();
+        byPlatform.clear();
+    }
+
+    /**
+     * Positions whose game matches every given value (null = any value), as a new BitSet the
+     * caller may keep. size is the list size (used when nothing is filtered).
+     */
+    BitSet matching(Game.Status status, Game.Ownership ownership, String platform, int size) {
+        BitSet result = null;
+        if (platform != null) {
+            BitSet p = byPlatform.get(platform);
+            if (p == null) return new BitSet();
+            result = (BitSet) p.clone();
+        }
+        result = and(result, status == null ? null : byStatus.get(status));
+        result = and(result, ownership == null ? null : byOwnership.get(ownership));
+        if (result == null) {
+            result = new BitSet(size);
+            result.set(0, size);
+        }
+        return result;
+    }
+
+    /** number of platforms with at least one game */
+    int platformCount() {
+        return byPlatform.size();
+    }
+
+    /** recomputes from the list and compares; null when it all matches, otherwise the first problem */
+    String verify(List<Game> games) {
+        FilterIndex fresh = new FilterIndex();
+        for (int p = 0; p < games.size(); p++) fresh.set(p, games.get(p));
+        if (!fresh.byStatus.equals(byStatus)) return "status bitsets differ";
+        if (!fresh.byOwnership.equals(byOwnership)) return "ownership bitsets differ";
+        if (!fresh.byPlatform.equals(byPlatform)) return "platform bitsets differ";
+        return null;
+    }
+
+    //Helpers
+
+    private void set(int position, Game game) {
+        byStatus.get(game.getStatus()).set(position);
+        byOwnership.get(game.getOwnership()).set(position);
+        byPlatform.computeIfAbsent(game.getPlatform(), k -> new BitSet()).set(position);
+    }
+
+    /** clears the bit and drops the platform once no game has it */
+    private void clearPlatform(int position, String platform) {
+        BitSet b = byPlatform.get(platform);
+        if (b == null) return;
+        b.clear(position);
+        if (b.isEmpty()) byPlatform.remove(platform);
+    }
+
+    /** result AND index (result null = nothing filtered yet, index null = no filter) */
+    private static BitSet and(BitSet result, BitSet index) {
+        if (index == null) return result;
+        if (result == null) return (BitSet) index.clone();
+        result.and(index);
+        return result;
+    }
+} // END FILTERINDEX
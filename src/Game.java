@@ -28,6 +28,12 @@ public class Game {
     private int priority;
     private Ownership ownership;
 
+    // last backlog score and the strategy that produced it (cleared by the setters); one
+    // immutable object so a reader on another thread never sees a score paired with the wrong strategy
+    private volatile CachedScore cachedScore;
+
+    private record CachedScore(ScoringStrategy by, int score) { }
+
     /**
      * method: Game
      * parameters: id: int, name: String, platform: String, status: Status, priority: int, ownership: Ownership
@@ -49,31 +55,37 @@ public class Game {
     public void setId(int id) {
         if (id <= 0) throw new IllegalArgumentException("id MUST be > 0");
         this.id = id;
+        cachedScore = null;
     }
 
     public void setName(String name) {
         if (name == null || name.trim().isEmpty()) throw new IllegalArgumentException("name required");
         this.name = name;
+        cachedScore = null;
     }
 
     public void setPlatform(String platform) {
         if (platform == null || platform.trim().isEmpty()) throw new IllegalArgumentException("platform required");
         this.platform = platform;
+        cachedScore = null;
     }
 
     public void setStatus(Status status) {
         if (status == null) throw new IllegalArgumentException("status required");
         this.status = status;
+        cachedScore = null;
     }
 
     public void setPriority(int priorty) {
         if (priorty < 1 || priorty > 5) throw new IllegalArgumentException("priority MUST be 1-5");
         this.priority = priorty;
+        cachedScore = null;
     }
 
     public void setOwnership(Ownership ownership) {
         if (ownership == null) throw new IllegalArgumentException("ownership required");
         this.ownership = ownership;
+        cachedScore = null;
     }
 
     // Getters
@@ -85,6 +97,22 @@ public class Game {
     public int getPriority() { return priority; }
     public Ownership getOwnership() { return ownership; }
 
+    /**
+     * method: scoreWith
+     * parameters: strategy: ScoringStrategy
+     * return: int
+     * purpose: backlog score under strategy; cached until a setter changes the game
+     *          or a different strategy asks.
+     */
+    public int scoreWith(ScoringStrategy strategy) {
+        CachedScore cached = cachedScore;
+        if (cached == null || cached.by() != strategy) {
+            cached = new CachedScore(strategy, strategy.score(this));
+            cachedScore = cached;
+        }
+        return cached.score();
+    }
+
     /**
      * method: toString
      * parameters: none
@@ -0,0 +1,73 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * GameChanges.java
+ * ------------------------------------
+ * The fields one edit wants to change on a game (anything left unset keeps its value)
+ * Handed to DbLibrary.update so a whole edit is checked and saved in one go
+ */
+
+/**
+ * Chainable list of new values, e.g. new GameChanges().status(Game.Status.BEATEN).priority(1).
+ * The values are checked by DbLibrary.update against Game's rules before anything is saved.
+ */
+public final class GameChanges {
+
+    private Integer id;
+    private String name;
+    private String platform;
+    private Game.Status status;
+    private Integer priority;
+    private Game.Ownership ownership;
+
+    /** every field of game, id included (a full replace) */
+    public static GameChanges allOf(Game game) {
+        return new GameChanges()
+                .id(game.getId())
+                .name(game.getName())
+                .platform(game.getPlatform())
+                .status(game.getStatus())
+                .priority(game.getPriority())
+                .ownership(game.getOwnership());
+    }
+
+    public GameChanges id(int id) { this.id = id; return this; }
+    public GameChanges name(String name) { this.name = name; return this; }
+    public GameChanges platform(String platform) { this.platform = platform; return this; }
+    public GameChanges status(Game.Status status) { this.status = status; return this; }
+    public GameChanges priority(int priority) { this.priority = priority; return this; }
+    public GameChanges ownership(Game.Ownership ownership) { this.ownership = ownership; return this; }
+
+    /** true if nothing was set */
+    public boolean isEmpty() {
+        return id == null && name == null && platform == null && status == null
+                && priority == null && ownership == null;
+    }
+
+    /** the id after the change (current id when no new one was set) */
+    int idOr(int currentId) {
+        return id == null ? currentId : id;
+    }
+
+    /** writes the set fields into game through its validating setters (throws on a bad value) */
+    void applyTo(Game game) {
+        if (id != null) game.setId(id);
+        if (name != null) game.setName(name);
+        if (platform != null) game.setPlatform(platform);
+        if (status != null) game.setStatus(status);
+        if (priority != null) game.setPriority(priority);
+        if (ownership != null) game.setOwnership(ownership);
+    }
+
+    @Override public String toString() {
+        StringBuilder sb = new StringBuilder("GameChanges{");
+        if (id != null) sb.append(" id=").append(id);
+        if (name != null) sb.append(" name=").append(name);
+        if (platform != null) sb.append(" platform=").append(platform);
+        if (status != null) sb.append(" status=").append(status);
+        if (priority != null) sb.append(" priority=").append(priority);
+        if (ownership != null) sb.append(" ownership=").append(ownership);
+        return sb.append(" }").toString();
+    }
+} // END GAMECHANGES
@@ -0,0 +1,212 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * GameColumns.java
+ * ------------------------------------
+ * Column store for DbLibrary's COMPACT mode: one primitive array per field instead of one
+ * Game object per row. Platforms are stored once in a PlatformDictionary and rows keep a code;
+ * names sit back to back in one UTF-8 byte arena. A Game is only built when a row is read.
+ */
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * A List of games where get(i) returns a new Game each time (edits to it do not reach the
+ * store; use set). Besides the List methods it has primitive accessors so scans can skip
+ * building Games, and removeAt for DbLibrary's batched removes.
+ *
+ * A name that is replaced leaves its old bytes in the arena; the arena is compacted once
+ * more than half of it is dead.
+ */
+final class GameColumns extends AbstractList<Game> implements RandomAccess {
+
+    private static final Game.Status[] STATUSES = Game.Status.values();
+    private static final Game.Ownership[] OWNERSHIPS = Game.Ownership.values();
+    private static final int MIN_ARENA_TO_COMPACT = 1 << 16;
+
+    private int[] ids = new int[16];
+    private byte[] statuses = new byte[16];
+    private byte[] ownerships = new byte[16];
+    private byte[] priorities = new byte[16];
+    private int[] platformCodes = new int[16];
+    private int[] nameStart = new int[16];
+    private int[] nameLength = new int[16];
+    private int size;
+
+    private byte[] arena = new byte[1024];
+    private int arenaUsed;  // bytes written so far
+    private int arenaLive;  // bytes still referenced by a row
+
+    private final PlatformDictionary platforms = new PlatformDictionary(); // code <-> platform
+
+    @Override public int size() { return size; }
+
+    /** a new Game for row i */
+    @Override
+    public Game get(int i) {
+        checkIndex(i);
+        return new Game(ids[i], nameAt(i), platforms.name(platformCodes[i]),
+                STATUSES[statuses[i]], priorities[i], OWNERSHIPS[ownerships[i]]);
+    }
+
+    /** overwrites row i with game's values; returns the old row */
+    @Override
+    public Game set(int i, Game game) {
+        Game old = get(i);
+        write(i, game);
+        return old;
+    }
+
+    /** appends a row */
+    @Override
+    public boolean add(Game game) {
+        if (size == ids.length) grow();
+        nameLength[size] = 0; // nothing to give back in write()
+        write(size++, game);
+        modCount++;
+        return true;
+    }
+
+    /** removes row i; later rows move up one (see removeAt) */
+    @Override
+    public Game remove(int i) {
+        Game old = get(i);
+        removeAt(new int[] {i}, 1);
+        return old;
+    }
+
+    /** removes the gone rows (sorted, see ListGaps) in one pass; later rows move up, order kept */
+    void removeAt(int[] gone, int count) {
+        for (int i = 0; i < count; i++) {
+            checkIndex(gone[i]);
+            arenaLive -= nameLength[gone[i]];
+        }
+        ListGaps.close(ids, size, gone, count);
+        ListGaps.close(statuses, size, gone, count);
+        ListGaps.close(ownerships, size, gone, count);
+        ListGaps.close(priorities, size, gone, count);
+        ListGaps.close(platformCodes, size, gone, count);
+        ListGaps.close(nameStart, size, gone, count);
+        size = ListGaps.close(nameLength, size, gone, count);
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        arenaUsed = 0;
+        arenaLive = 0;
+        platforms.clear();
+        modCount++;
+    }
+
+    // Column reads (no Game built)
+
+    int idAt(int i) { checkIndex(i); return ids[i]; }
+    int priorityAt(int i) { checkIndex(i); return priorities[i]; }
+    Game.Status statusAt(int i) { checkIndex(i); return STATUSES[statuses[i]]; }
+    Game.Ownership ownershipAt(int i) { checkIndex(i); return OWNERSHIPS[ownerships[i]]; }
+    String platformAt(int i) { checkIndex(i); return platforms.name(platformCodes[i]); }
+
+    /** decodes the name of row i from the arena */
+    String nameAt(int i) {
+        checkIndex(i);
+        return new String(arena, nameStart[i], nameLength[i], StandardCharsets.UTF_8);
+    }
+
+    /** number of different platforms seen since the last clear */
+    int platformCount() {
+        return platforms.size();
+    }
+
+    /** heap taken by the arrays, arena and platform dictionary (capacity, not just size) */
+    long estimatedBytes() {
+        long bytes = 7 * 16L                                   // array headers
+                + (long) ids.length * (4 + 1 + 1 + 1 + 4 + 4 + 4) // one slot in every column
+                + 16 + arena.length;
+        for (int code = 1; platforms.name(code) != null; code++) {
+            bytes += stringBytes(platforms.name(code)) + 2 * 32L + 4; // two map entries and the array slot
+        }
+        return bytes;
+    }
+
+    /**
+     * Heap one Game object takes with its own name String, plus its slot in DbLibrary's list
+     * (64-bit JVM, compressed references). This is what EAGER mode keeps per row; the platform
+     * String is shared through the PlatformDictionary, so it is not counted.
+     */
+    static long estimatedObjectBytes(Game game) {
+        long gameObject = align(12 + 4 + 4 + 5 * 4); // header, id, priority, 5 references
+        return gameObject + stringBytes(game.getName()) + 4;
+    }
+
+    //Helpers
+
+    private void write(int i, Game game) {
+        ids[i] = game.getId();
+        statuses[i] = (byte) game.getStatus().ordinal();
+        ownerships[i] = (byte) game.getOwnership().ordinal();
+        priorities[i] = (byte) game.getPriority();
+        platformCodes[i] = platforms.intern(game.getPlatform());
+
+        byte[] name = game.getName().getBytes(StandardCharsets.UTF_8);
+        if (nameLength[i] == name.length
+                && Arrays.equals(arena, nameStart[i], nameStart[i] + name.length, name, 0, name.length)) {
+            return; // same name: keep its bytes
+        }
+        arenaLive -= nameLength[i];
+        if (arenaUsed + name.length > arena.length) makeRoom(name.length);
+        System.arraycopy(name, 0, arena, arenaUsed, name.length);
+        nameStart[i] = arenaUsed;
+        nameLength[i] = name.length;
+        arenaUsed += name.length;
+        arenaLive += name.length;
+    }
+
+    /** compacts the arena if it is mostly dead bytes, otherwise grows it */
+    private void makeRoom(int needed) {
+        if (arenaUsed >= MIN_ARENA_TO_COMPACT && arenaLive * 2 < arenaUsed) {
+            byte[] packed = new byte[Math.max(arena.length, (arenaLive + needed) * 2)];
+            int at = 0;
+            for (int r = 0; r < size; r++) {
+                System.arraycopy(arena, nameStart[r], packed, at, nameLength[r]);
+                nameStart[r] = at;
+                at += nameLength[r];
+            }
+            arena = packed;
+            arenaUsed = at;
+        }
+        if (arenaUsed + needed > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaUsed + needed));
+        }
+    }
+
+    private void grow() {
+        int cap = ids.length * 2;
+        ids = Arrays.copyOf(ids, cap);
+        statuses = Arrays.copyOf(statuses, cap);
+        ownerships = Arrays.copyOf(ownerships, cap);
+        priorities = Arrays.copyOf(priorities, cap);
+        platformCodes = Arrays.copyOf(platformCodes, cap);
+        nameStart = Arrays.copyOf(nameStart, cap);
+        nameLength = Arrays.copyOf(nameLength, cap);
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("row " + i + " of " + size);
+    }
+
+    /** String with a Latin-1 byte[] (compact strings) or UTF-16 for anything else */
+    private static long stringBytes(String s) {
+        boolean latin1 = s.chars().allMatch(c -> c < 256);
+        return 24 + align(16 + (long) s.length() * (latin1 ? 1 : 2));
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+} // END GAMECOLUMNS
@@ -0,0 +1,196 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * GameExportWriter.java
+ * ------------------------------------
+ * Writes game rows to a file one at a time for DbLibrary.exportTo
+ * Formats: the id|name|platform|status|priority|ownership list importFromFile reads, CSV, JSON Lines
+ * Goes through one reused line buffer and a 64 KiB writer (gzipped if the name ends in .gz)
+ */
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rows go to a temp file next to the target; finish() moves it over the target, and close()
+ * without finish() deletes it, so a failed export never leaves half a file behind.
+ * Not thread-safe (DbLibrary writes from one thread while holding its lock).
+ */
+final class GameExportWriter implements Closeable {
+
+    static final int BUFFER_BYTES = 1 << 16;
+    static final String PIPE_HEADER = "# id|name|platform|status|priority|ownership";
+    static final String CSV_HEADER = "id,name,platform,status,priority,ownership";
+
+    private final Path file;
+    private final Path temp;
+    private final DbLibrary.ExportFormat format;
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(128); // reused for every row
+    private int rows;
+    private int cleanedRows; // PIPE rows whose name or platform had | or a line break swapped for a space
+    private boolean finished;
+
+    private GameExportWriter(Path file, Path temp, DbLibrary.ExportFormat format, Writer out) {
+        this.file = file;
+        this.temp = temp;
+        this.format = format;
+        this.out = out;
+    }
+
+    /** starts an export to file (gzipped if its name ends in .gz), writing the header line if the format has one */
+    static GameExportWriter open(Path file, DbLibrary.ExportFormat format) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        OutputStream raw = Files.newOutputStream(temp);
+        GameExportWriter w;
+        try {
+            OutputStream bytes = isGzip(file) ? new GZIPOutputStream(raw, BUFFER_BYTES) : raw;
+            Writer text = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8), BUFFER_BYTES);
+            w = new GameExportWriter(file, temp, format, text);
+        } catch (IOException e) {
+            raw.close();
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        switch (format) {
+            case PIPE -> w.out.write(PIPE_HEADER + "\n"); // a # line, which the importer skips
+            case CSV -> w.out.write(CSV_HEADER + "\n");
+            case JSONL -> { }
+        }
+        return w;
+    }
+
+    /** true if file is written gzipped */
+    static boolean isGzip(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    /** writes one game (status and ownership as their enum names) */
+    void row(int id, String name, String platform, String status, int priority, String ownership) throws IOException {
+        line.setLength(0);
+        switch (format) {
+            case PIPE -> {
+                line.append(id).append('|');
+                boolean cleaned = pipeField(name);
+                line.append('|');
+                cleaned |= pipeField(platform);
+                if (cleaned) cleanedRows++;
+                line.append('|').append(status).append('|').append(priority).append('|').append(ownership);
+            }
+            case CSV -> {
+                line.append(id).append(',');
+                csvField(name);
+                line.append(',');
+                csvField(platform);
+                line.append(',').append(status).append(',').append(priority).append(',').append(ownership);
+            }
+            case JSONL -> {
+                line.append("{\"id\":").append(id).append(",\"name\":");
+                jsonString(name);
+                line.append(",\"platform\":");
+                jsonString(platform);
+                line.append(",\"status\":\"").append(status)
+                        .append("\",\"priority\":").append(priority)
+                        .append(",\"ownership\":\"").append(ownership).append("\"}");
+            }
+        }
+        line.append('\n');
+        out.append(line);
+        rows++;
+    }
+
+    /** rows written so far */
+    int rows() {
+        return rows;
+    }
+
+    /** PIPE rows whose name or platform had | or a line break replaced (the list format cannot hold them) */
+    int cleanedRows() {
+        return cleanedRows;
+    }
+
+    /** flushes everything (and the gzip trailer) and moves the file into place */
+    void finish() throws IOException {
+        out.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+    }
+
+    /** gives up on an unfinished export: the temp file is deleted, the target is left as it was */
+    @Override
+    public void close() throws IOException {
+        if (finished) return;
+        try {
+            out.close();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    //Helpers
+
+    /** the field with | and line breaks as spaces; true if any were there */
+    private boolean pipeField(String s) {
+        boolean cleaned = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '|' || c == '\n' || c == '\r') {
+                c = ' ';
+                cleaned = true;
+            }
+            line.append(c);
+        }
+        return cleaned;
+    }
+
+    /** RFC 4180: quoted only if it has a comma, quote or line break; quotes are doubled */
+    private void csvField(String s) {
+        boolean quote = false;
+        for (int i = 0; i < s.length() && !quote; i++) {
+            char c = s.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            line.append(s);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') line.append('"');
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    /** a JSON string: quotes, backslashes and control characters escaped, everything else as is */
+    private void jsonString(String s) {
+        line.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) line.append(String.format("\\u%04x", (int) c));
+                    else line.append(c);
+                }
+            }
+        }
+        line.append('"');
+    }
+} // END GAMEEXPORTWRITER
@@ -0,0 +1,211 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 16th, 2026
+ * GameFileParser.java
+ * ------------------------------------
+ * Fast reader for the id|name|platform|status|priority|ownership game list format
+ * Memory-maps the file and walks the UTF-8 bytes directly (no readLine/split/trim)
+ * Windows of the mapping are copied in small blocks into one reused byte[] and scanned there
+ * Only the name and platform become Strings; ids, priorities and enums are read from bytes
+ */
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Parses a pipe-delimited game list with the same rules as the old readLine/split code:
+ * blank lines and lines starting with # (after trimming) are ignored, each field is trimmed,
+ * and a line must have exactly 6 fields.
+ */
+final class GameFileParser {
+
+    /** receives each parsed line */
+    interface RowSink {
+        /** a line with 6 fields and valid numbers; status/ownership are null if the word is not known */
+        void row(int id, String name, String platform, Game.Status status, int priority,
+                 Game.Ownership ownership) throws Exception;
+
+        /** a line with the wrong number of fields or a bad number */
+        void malformed() throws Exception;
+    }
+
+    // how much of the file is mapped at once
+    static final int DEFAULT_WINDOW = 1 << 28; // 256 MiB
+    // a line longer than this is treated as a broken file (stops a huge binary file from eating memory)
+    static final int MAX_LINE = 1 << 20;       // 1 MiB
+
+    // bytes are copied out of the mapping in blocks; indexing a byte[] is much cheaper than buf.get(i)
+    private static final int BLOCK = 1 << 16;
+    private static final int FIELDS = 6;
+    private static final byte PIPE = '|';
+
+    private static final byte[] UNPLAYED = bytes("UNPLAYED");
+    private static final byte[] PLAYING = bytes("PLAYING");
+    private static final byte[] BEATEN = bytes("BEATEN");
+    private static final byte[] PHYSICAL = bytes("PHYSICAL");
+    private static final byte[] DIGITAL = bytes("DIGITAL");
+
+    private final int window;
+    private final int[] start = new int[FIELDS + 1]; // field bounds inside the current line
+    private final int[] end = new int[FIELDS + 1];
+    private byte[] data = new byte[BLOCK * 2];      // unfinished line from the last block + the next block
+
+    GameFileParser() {
+        this(DEFAULT_WINDOW);
+    }
+
+    GameFileParser(int window) {
+        if (window < 1) throw new IllegalArgumentException("window MUST be > 0");
+        this.window = window;
+    }
+
+    /** parses the whole file, calling sink once per data line */
+    static void parse(Path path, RowSink sink) throws Exception {
+        new GameFileParser().parseFile(path, sink);
+    }
+
+    /** parses the whole file, calling sink once per data line */
+    void parseFile(Path path, RowSink sink) throws Exception {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = ch.size();
+            int carry = 0; // bytes of an unfinished line waiting at the front of data
+            for (long pos = 0; pos < size; pos += window) {
+                int len = (int) Math.min(window, size - pos);
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, pos, len);
+
+                for (int off = 0; off < len; ) {
+                    int n = Math.min(BLOCK, len - off);
+                    if (carry + n > data.length) data = Arrays.copyOf(data, Math.max(carry + n, data.length * 2));
+                    buf.get(off, data, carry, n);
+                    off += n;
+
+                    int limit = carry + n;
+                    int lineStart = 0;
+                    for (int i = carry; i < limit; i++) {
+                        byte b = data[i];
+                        if (b == '\n' || b == '\r') { // \r\n just makes an extra blank line, which is skipped
+                            line(lineStart, i, sink);
+                            lineStart = i + 1;
+                        }
+                    }
+                    carry = limit - lineStart;
+                    if (carry > MAX_LINE) throw new IOException("Line longer than " + MAX_LINE + " bytes");
+                    System.arraycopy(data, lineStart, data, 0, carry);
+                }
+            }
+            if (carry > 0) line(0, carry, sink); // last line without a newline
+        }
+    }
+
+    //Helpers
+
+    /** handles bytes [from, to) of data as one line */
+    private void line(int from, int to, RowSink sink) throws Exception {
+        if (to - from > MAX_LINE) throw new IOException("Line longer than " + MAX_LINE + " bytes");
+        int tFrom = skipSpaceForward(from, to);
+        if (tFrom == to || data[tFrom] == '#') return; // blank or comment
+
+        // split on '|'; String.split drops trailing empty fields, so "1|a|b|c|5|" has 5 fields
+        int field = 0;
+        int lastNonEmpty = -1;
+        int fieldStart = from;
+        for (int i = from; i <= to; i++) {
+            if (i < to && data[i] != PIPE) continue;
+            if (field < start.length) {
+                start[field] = fieldStart;
+                end[field] = i;
+            }
+            if (i > fieldStart) lastNonEmpty = field;
+            field++;
+            fieldStart = i + 1;
+        }
+        if (lastNonEmpty + 1 != FIELDS) { sink.malformed(); return; }
+
+        long id = parseInt(start[0], end[0]);
+        long priority = parseInt(start[4], end[4]);
+        if (id == Long.MIN_VALUE || priority == Long.MIN_VALUE) { sink.malformed(); return; }
+
+        sink.row((int) id, text(start[1], end[1]), text(start[2], end[2]),
+                status(start[3], end[3]), (int) priority, ownership(start[5], end[5]));
+    }
+
+    /** Integer.parseInt on the trimmed field; Long.MIN_VALUE means "not a valid int" */
+    private long parseInt(int from, int to) {
+        from = skipSpaceForward(from, to);
+        to = skipSpaceBackward(from, to);
+        if (from == to) return Long.MIN_VALUE;
+
+        boolean negative = false;
+        byte first = data[from];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++from == to) return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int d = data[i] - '0';
+            if (d < 0 || d > 9) return Long.MIN_VALUE;
+            value = value * 10 + d;
+            if (value > (long) Integer.MAX_VALUE + 1) return Long.MIN_VALUE;
+        }
+        if (negative) value = -value;
+        if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) return Long.MIN_VALUE;
+        return value;
+    }
+
+    /** trimmed field as a String (UTF-8) */
+    private String text(int from, int to) {
+        from = skipSpaceForward(from, to);
+        to = skipSpaceBackward(from, to);
+        return new String(data, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private Game.Status status(int from, int to) {
+        from = skipSpaceForward(from, to);
+        to = skipSpaceBackward(from, to);
+        if (equalsIgnoreCase(from, to, UNPLAYED)) return Game.Status.UNPLAYED;
+        if (equalsIgnoreCase(from, to, PLAYING)) return Game.Status.PLAYING;
+        if (equalsIgnoreCase(from, to, BEATEN)) return Game.Status.BEATEN;
+        return null;
+    }
+
+    private Game.Ownership ownership(int from, int to) {
+        from = skipSpaceForward(from, to);
+        to = skipSpaceBackward(from, to);
+        if (equalsIgnoreCase(from, to, PHYSICAL)) return Game.Ownership.PHYSICAL;
+        if (equalsIgnoreCase(from, to, DIGITAL)) return Game.Ownership.DIGITAL;
+        return null;
+    }
+
+    /** ASCII case-insensitive compare of data[from, to) with an upper-case word */
+    private boolean equalsIgnoreCase(int from, int to, byte[] upperWord) {
+        if (to - from != upperWord.length) return false;
+        for (int i = 0; i < upperWord.length; i++) {
+            int b = data[from + i];
+            if (b >= 'a' && b <= 'z') b -= 32;
+            if (b != upperWord[i]) return false;
+        }
+        return true;
+    }
+
+    /** String.trim() treats every char <= ' ' as space; UTF-8 multi-byte chars are never <= ' ' */
+    private int skipSpaceForward(int from, int to) {
+        while (from < to && (data[from] & 0xFF) <= ' ') from++;
+        return from;
+    }
+
+    private int skipSpaceBackward(int from, int to) {
+        while (to > from && (data[to - 1] & 0xFF) <= ' ') to--;
+        return to;
+    }
+
+    private static byte[] bytes(String word) {
+        return word.getBytes(StandardCharsets.US_ASCII);
+    }
+} // END GAMEFILEPARSER
@@ -0,0 +1,100 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * GameQuery.java
+ * ------------------------------------
+ * A question about the library, built step by step from DbLibrary.query()
+ * e.g. library.query().status(UNPLAYED).platform("PC").minPriority(4).orderByScore().limit(20).list()
+ * DbLibrary answers it with one SQL statement, or from its indexes when every row is in memory
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Chainable filter + order + limit. Anything left unset does not filter (all games, id order,
+ * no limit). The results are the same whichever way DbLibrary runs it.
+ */
+public final class GameQuery {
+
+    /** result order */
+    public enum Order {
+        ID,    // lowest id first
+        SCORE  // highest score under the library's ScoringStrategy first, then lowest id
+    }
+
+    private final DbLibrary library;
+    private Game.Status status;
+    private Game.Ownership ownership;
+    private String platform;
+    private int minPriority = 1;
+    private Order order = Order.ID;
+    private int limit = Integer.MAX_VALUE;
+
+    GameQuery(DbLibrary library) {
+        this.library = library;
+    }
+
+    public GameQuery status(Game.Status status) { this.status = status; return this; }
+    public GameQuery ownership(Game.Ownership ownership) { this.ownership = ownership; return this; }
+    public GameQuery platform(String platform) { this.platform = platform; return this; }
+    public GameQuery orderById() { this.order = Order.ID; return this; }
+    public GameQuery orderByScore() { this.order = Order.SCORE; return this; }
+
+    /** only games with at least this priority (1-5) */
+    public GameQuery minPriority(int minPriority) {
+        if (minPriority < 1 || minPriority > 5) throw new IllegalArgumentException("minPriority MUST be 1-5");
+        this.minPriority = minPriority;
+        return this;
+    }
+
+    /** at most this many games (> 0) */
+    public GameQuery limit(int limit) {
+        if (limit <= 0) throw new IllegalArgumentException("limit MUST be > 0");
+        this.limit = limit;
+        return this;
+    }
+
+    /** the matching games */
+    public List<Game> list() {
+        List<Game> out = new ArrayList<>();
+        forEach(out::add);
+        return out;
+    }
+
+    /**
+     * Hands each matching game to action, in query order. The hits are read first and action
+     * runs after the library lets go of its lock, so it may call back into the library.
+     */
+    public void forEach(Consumer<Game> action) {
+        library.run(this, action);
+    }
+
+    /** how many games match (the limit is applied too); counted without reading the games */
+    public int count() {
+        return library.count(this);
+    }
+
+    Game.Status status() { return status; }
+    Game.Ownership ownership() { return ownership; }
+    String platform() { return platform; }
+    int minPriority() { return minPriority; }
+    Order order() { return order; }
+    int limit() { return limit; }
+
+    /** true if priority does not filter anything */
+    boolean anyPriority() { return minPriority <= 1; }
+
+    @Override public String toString() {
+        StringBuilder sb = new StringBuilder("GameQuery{");
+        if (status != null) sb.append(" status=").append(status);
+        if (ownership != null) sb.append(" ownership=").append(ownership);
+        if (platform != null) sb.append(" platform=").append(platform);
+        if (!anyPriority()) sb.append(" minPriority=").append(minPriority);
+        sb.append(" order=").append(order);
+        if (limit != Integer.MAX_VALUE) sb.append(" limit=").append(limit);
+        return sb.append(" }").toString();
+    }
+} // END GAMEQUERY
@@ -0,0 +1,167 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * GameTableModel.java
+ * ------------------------------------
+ * Virtual table model for the GUI's game table
+ * Only the row count comes from the database up front; rows are read a page at a time
+ * Pages live in a small LRU cache, so the heap stays the same size for any library
+ */
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Rows are shown in id order (the order DbLibrary.listPage walks). A row whose page has not
+ * arrived yet shows a placeholder; the page is read on a background thread and the rows are
+ * repainted when it lands. Pages ahead in the scroll direction are fetched early.
+ */
+final class GameTableModel extends AbstractTableModel {
+
+    static final int PAGE_SIZE = 200;
+    static final int MAX_PAGES = 50;      // at most 10,000 games held at once
+    static final int PREFETCH_PAGES = 2;  // pages read ahead of the one being looked at
+
+    private static final String[] COLS = {"ID", "Name", "Platform", "Status", "Priority", "Ownership"};
+    private static final String LOADING = "Loading…";
+
+    private final Executor loader;     // runs the page queries (never the EDT)
+    private final Executor publisher;  // hands finished pages back (the EDT)
+
+    // page number -> rows, least recently used first (all EDT-only)
+    private final Map<Integer, List<Game>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<Integer, List<Game>> eldest) {
+            return size() > MAX_PAGES;
+        }
+    };
+    private final Set<Integer> pending = new HashSet<>(); // pages asked for but not back yet
+
+    private DbLibrary library;
+    private int rowCount;
+    private int lastPage = -1;            // last page looked at (gives the scroll direction)
+    private volatile int generation;      // bumped on reload so pages from an old query are dropped
+
+    GameTableModel() {
+        this(Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "game-table-pages");
+            t.setDaemon(true);
+            return t;
+        }), SwingUtilities::invokeLater);
+    }
+
+    GameTableModel(Executor loader, Executor publisher) {
+        this.loader = loader;
+        this.publisher = publisher;
+    }
+
+    /** shows this library (null = empty table); rowCount is library.count(), read off the EDT */
+    void setLibrary(DbLibrary library, int rowCount) {
+        this.library = library;
+        reload(library == null ? 0 : rowCount);
+    }
+
+    /** call after the database changed: drops every cached page and takes the new row count */
+    void reload(int rowCount) {
+        generation++;
+        pages.clear();
+        pending.clear();
+        lastPage = -1;
+        this.rowCount = rowCount;
+        fireTableDataChanged();
+    }
+
+    /** the game on row, or null if the row is out of range or its page is still loading */
+    Game getAt(int row) {
+        if (row < 0 || row >= rowCount) return null;
+        List<Game> page = page(row / PAGE_SIZE);
+        int i = row % PAGE_SIZE;
+        return page != null && i < page.size() ? page.get(i) : null;
+    }
+
+    /** number of pages in the cache right now */
+    int cachedPageCount() {
+        return pages.size();
+    }
+
+    @Override public int getRowCount() { return rowCount; }
+    @Override public int getColumnCount() { return COLS.length; }
+    @Override public String getColumnName(int col) { return COLS[col]; }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        Game g = getAt(rowIndex);
+        if (g == null) return columnIndex == 1 ? LOADING : null;
+        return switch (columnIndex) {
+            case 0 -> g.getId();
+            case 1 -> g.getName();
+            case 2 -> g.getPlatform();
+            case 3 -> g.getStatus();
+            case 4 -> g.getPriority();
+            case 5 -> g.getOwnership();
+            default -> "";
+        };
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return switch (columnIndex) {
+            case 0, 4 -> Integer.class;
+            case 3 -> Game.Status.class;
+            case 5 -> Game.Ownership.class;
+            default -> String.class;
+        };
+    }
+
+    @Override public boolean isCellEditable(int rowIndex, int columnIndex) { return false; }
+
+    //Helpers
+
+    /** cached page or null (asks for it); also reads ahead when the view moved to a new page */
+    private List<Game> page(int index) {
+        List<Game> rows = pages.get(index); // get() also marks it recently used
+        if (rows == null) request(index);
+        if (index != lastPage) {
+            int step = index >= lastPage ? 1 : -1;
+            lastPage = index;
+            for (int k = 1; k <= PREFETCH_PAGES; k++) request(index + step * k);
+        }
+        return rows;
+    }
+
+    /** starts loading a page unless it is cached, already on its way or out of range */
+    private void request(int index) {
+        int pageCount = (rowCount + PAGE_SIZE - 1) / PAGE_SIZE;
+        if (index < 0 || index >= pageCount || pages.containsKey(index) || !pending.add(index)) return;
+
+        // with the page before it cached, a keyset query (id > last id) avoids stepping over rows
+        List<Game> before = pages.get(index - 1);
+        int afterId = before == null || before.isEmpty() ? -1 : before.get(before.size() - 1).getId();
+        DbLibrary source = library;
+        int gen = generation;
+        loader.execute(() -> {
+            if (gen != generation) return; // reloaded (or switched database) while queued
+            List<Game> rows = afterId >= 0
+                    ? source.listPage(afterId, PAGE_SIZE)
+                    : source.listPageAt(index * PAGE_SIZE, PAGE_SIZE);
+            publisher.execute(() -> arrived(gen, index, rows));
+        });
+    }
+
+    /** EDT: stores a finished page and repaints its rows */
+    private void arrived(int gen, int index, List<Game> rows) {
+        if (gen != generation) return;
+        pending.remove(index);
+        pages.put(index, rows);
+        int first = index * PAGE_SIZE;
+        int last = Math.min(rowCount, first + PAGE_SIZE) - 1;
+        if (last >= first) fireTableRowsUpdated(first, last);
+    }
+} // END GAMETABLEMODEL
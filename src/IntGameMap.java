@@ -0,0 +1,186 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 16th, 2026
+ * IntGameMap.java
+ * ------------------------------------
+ * Small open-addressing map from game id (int) to Game
+ * Used by DbLibrary so lookups by id don't scan the whole list
+ * Also remembers where each game sits in the library list (for updates and removes)
+ */
+
+import java.util.Arrays;
+
+/**
+ * int -> Game hash map with linear probing (no Integer boxing).
+ */
+final class IntGameMap {
+
+    // ids are always > 0 (Game.setId checks), so 0 can mark an empty slot
+    private static final int FREE = 0;
+
+    private int[] keys;
+    private Game[] values;
+    private int[] positions;
+    private int mask;
+    private int size;
+
+    IntGameMap() {
+        this(16);
+    }
+
+    IntGameMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /** number of ids in the map */
+    int size() {
+        return size;
+    }
+
+    /** game stored under id, or null */
+    Game get(int id) {
+        int slot = find(id);
+        return slot < 0 ? null : values[slot];
+    }
+
+    /** true if the id is in the map */
+    boolean contains(int id) {
+        return find(id) >= 0;
+    }
+
+    /** list position stored for id, or -1 */
+    int positionOf(int id) {
+        int slot = find(id);
+        return slot < 0 ? -1 : positions[slot];
+    }
+
+    /** adds or replaces the game stored under its id */
+    void put(Game game, int position) {
+        put(game.getId(), game, position);
+    }
+
+    /** same, with the id given (game may be null when only the position is wanted) */
+    void put(int id, Game game, int position) {
+        if (id == FREE) throw new IllegalArgumentException("id MUST be > 0");
+        if ((size + 1) * 2 > keys.length) allocateAndRehash(keys.length * 2);
+
+        int slot = mix(id) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == id) {
+                values[slot] = game;
+                positions[slot] = position;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = game;
+        positions[slot] = position;
+        size++;
+    }
+
+    /**
+     * The list dropped the gone positions (sorted, see ListGaps; their ids already removed):
+     * every position stored after a gap moves down by the gaps before it. One pass over the table.
+     */
+    void closeGaps(int[] gone, int count) {
+        int first = gone[0];
+        if (count == 1) {
+            // no branch: positions sit in hash order, so "p > first" would be a coin flip per slot
+            for (int slot = 0; slot < positions.length; slot++) positions[slot] -= (first - positions[slot]) >>> 31;
+            return;
+        }
+        for (int slot = 0; slot < positions.length; slot++) {
+            int p = positions[slot]; // 0 in free slots, never above first
+            if (p > first) positions[slot] = p - ListGaps.before(gone, count, p);
+        }
+    }
+
+    /** removes id; returns the game that was stored or null */
+    Game remove(int id) {
+        int slot = find(id);
+        if (slot < 0) return null;
+        Game old = values[slot];
+        size--;
+
+        // Backward-shift delete so probe chains stay unbroken (no tombstones needed)
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = mix(keys[next]) & mask;
+            // move entry back if its home is not inside (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                positions[hole] = positions[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = FREE;
+        values[hole] = null;
+        positions[hole] = 0;
+        return old;
+    }
+
+    /** grows once so expectedSize ids fit without rehashing along the way */
+    void ensureCapacity(int expectedSize) {
+        int cap = capacityFor(expectedSize);
+        if (cap > keys.length) allocateAndRehash(cap);
+    }
+
+    /** empties the map but keeps the current capacity */
+    void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        Arrays.fill(positions, 0);
+        size = 0;
+    }
+
+    //Helpers
+
+    private int find(int id) {
+        if (id == FREE) return -1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == id) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** spreads sequential ids so they don't cluster in one probe run */
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int cap = 16;
+        while (cap < expectedSize * 2) cap <<= 1;
+        return cap;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Game[capacity];
+        positions = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private void allocateAndRehash(int capacity) {
+        int[] oldKeys = keys;
+        Game[] oldValues = values;
+        int[] oldPositions = positions;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == FREE) continue;
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != FREE) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+            positions[slot] = oldPositions[i];
+        }
+    }
+} // END INTGAMEMAP
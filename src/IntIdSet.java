@@ -0,0 +1,105 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 16th, 2026
+ * IntIdSet.java
+ * ------------------------------------
+ * Small open-addressing set of game ids (ints, no boxing)
+ * Used when DbLibrary needs to remember which ids it has already seen
+ */
+
+import java.util.function.IntConsumer;
+
+/**
+ * Set of positive int ids with linear probing.
+ */
+final class IntIdSet {
+
+    // ids are always > 0, so 0 marks an empty slot
+    private static final int FREE = 0;
+
+    private int[] keys = new int[16];
+    private int size;
+
+    /** number of ids in the set */
+    int size() {
+        return size;
+    }
+
+    /** adds id; returns false if it was already there */
+    boolean add(int id) {
+        if (id == FREE) throw new IllegalArgumentException("id MUST be > 0");
+        if ((size + 1) * 2 > keys.length) grow();
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == id) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        size++;
+        return true;
+    }
+
+    /** true if id is in the set */
+    boolean contains(int id) {
+        if (id == FREE) return false;
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == id) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /** removes id; returns false if it was not there */
+    boolean remove(int id) {
+        if (id == FREE) return false;
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != id) {
+            if (keys[slot] == FREE) return false;
+            slot = (slot + 1) & mask;
+        }
+        size--;
+
+        // Backward-shift delete, same as IntGameMap (probe chains stay unbroken)
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = FREE;
+        return true;
+    }
+
+    /** calls action for every id (in no particular order) */
+    void forEach(IntConsumer action) {
+        for (int id : keys) if (id != FREE) action.accept(id);
+    }
+
+    //Helpers
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void grow() {
+        int[] old = keys;
+        keys = new int[old.length * 2];
+        int mask = keys.length - 1;
+        for (int id : old) {
+            if (id == FREE) continue;
+            int slot = mix(id) & mask;
+            while (keys[slot] != FREE) slot = (slot + 1) & mask;
+            keys[slot] = id;
+        }
+    }
+} // END INTIDSET
@@ -0,0 +1,117 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * IntStringMap.java
+ * ------------------------------------
+ * Small open-addressing map from game id (int) to a String
+ * Used by NameIndex for the folded name of every game (no Integer boxing)
+ */
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * int -> String hash map with linear probing.
+ */
+final class IntStringMap {
+
+    // ids are always > 0, so 0 marks an empty slot
+    private static final int FREE = 0;
+
+    private int[] keys = new int[16];
+    private String[] values = new String[16];
+    private int size;
+
+    /** number of ids in the map */
+    int size() {
+        return size;
+    }
+
+    /** String stored under id, or null */
+    String get(int id) {
+        if (id == FREE) return null;
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == id) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /** stores value under id; returns the value it replaced, or null */
+    String put(int id, String value) {
+        if (id == FREE) throw new IllegalArgumentException("id MUST be > 0");
+        if ((size + 1) * 2 > keys.length) grow();
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == id) {
+                String old = values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = value;
+        size++;
+        return null;
+    }
+
+    /** removes id; returns the value it had, or null if it was not there */
+    String remove(int id) {
+        if (id == FREE) return null;
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != id) {
+            if (keys[slot] == FREE) return null;
+            slot = (slot + 1) & mask;
+        }
+        String old = values[slot];
+        size--;
+
+        // Backward-shift delete, same as IntIdSet (probe chains stay unbroken)
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = FREE;
+        values[hole] = null;
+        return old;
+    }
+
+    /** calls action with every (value, id) pair (in no particular order) */
+    void forEach(ObjIntConsumer<String> action) {
+        for (int i = 0; i < keys.length; i++) if (keys[i] != FREE) action.accept(values[i], keys[i]);
+    }
+
+    //Helpers
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        String[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new String[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == FREE) continue;
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != FREE) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+} // END INTSTRINGMAP
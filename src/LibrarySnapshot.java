@@ -0,0 +1,158 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * LibrarySnapshot.java
+ * ------------------------------------
+ * Binary copy of every game, written next to the .db when DbLibrary closes
+ * The next full load maps the file and reads fixed-width records instead of going row by row over JDBC
+ * A stamp shared with the database says whether the file still matches it
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * File layout (big-endian):
+ *   header  magic "CKPS", version, stamp (long), rows, arena bytes, CRC32 of everything after the header
+ *   rows    id, platform id, name start, name length (ints), status, ownership, priority, 0 (bytes)
+ *   arena   every name in UTF-8, back to back
+ * Statuses and ownerships are enum ordinals, so changing either enum means a new VERSION.
+ */
+final class LibrarySnapshot {
+
+    static final int MAGIC = 0x434B5053; // "CKPS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int ROW_BYTES = 20;
+
+    private static final Game.Status[] STATUSES = Game.Status.values();
+    private static final Game.Ownership[] OWNERSHIPS = Game.Ownership.values();
+
+    private final ByteBuffer buffer; // whole file, mapped read-only
+    private final int rows;
+    private final int arenaStart;
+    private byte[] nameBytes = new byte[64]; // reused by name()
+
+    private LibrarySnapshot(ByteBuffer buffer, int rows) {
+        this.buffer = buffer;
+        this.rows = rows;
+        this.arenaStart = HEADER_BYTES + rows * ROW_BYTES;
+    }
+
+    /**
+     * Maps file if it exists and was written with this stamp; null if it is missing or its
+     * stamp is different (the database changed since). Throws if the file is damaged.
+     */
+    static LibrarySnapshot open(Path file, long stamp) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() < HEADER_BYTES || ch.size() > Integer.MAX_VALUE) throw new IOException("bad snapshot size " + ch.size());
+            map = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (map.getInt(0) != MAGIC) throw new IOException("not a snapshot file");
+        if (map.getInt(4) != VERSION) throw new IOException("snapshot version " + map.getInt(4) + ", expected " + VERSION);
+        if (map.getLong(8) != stamp) return null;
+
+        int rows = map.getInt(16);
+        int arenaBytes = map.getInt(20);
+        long expected = HEADER_BYTES + (long) rows * ROW_BYTES + arenaBytes;
+        if (rows < 0 || arenaBytes < 0 || expected != map.capacity()) throw new IOException("snapshot is truncated");
+
+        CRC32 crc = new CRC32();
+        crc.update(map.slice(HEADER_BYTES, map.capacity() - HEADER_BYTES));
+        if (crc.getValue() != map.getLong(24)) throw new IOException("snapshot checksum mismatch");
+        return new LibrarySnapshot(map, rows);
+    }
+
+    /**
+     * Writes games (in the order given) with this stamp. platformId gives the platforms-table id
+     * of each platform. Goes to a temp file first and is then moved over file, so a crash never
+     * leaves half a snapshot behind.
+     */
+    static void write(Path file, long stamp, List<Game> games, ToIntFunction<String> platformId) throws IOException {
+        int n = games.size();
+        ByteBuffer records = ByteBuffer.allocate(n * ROW_BYTES);
+        byte[] arena = new byte[Math.max(1024, n * 16)];
+        int used = 0;
+        for (Game g : games) {
+            byte[] name = g.getName().getBytes(StandardCharsets.UTF_8);
+            if (used + name.length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arena.length * 2, used + name.length));
+            }
+            System.arraycopy(name, 0, arena, used, name.length);
+            records.putInt(g.getId())
+                    .putInt(platformId.applyAsInt(g.getPlatform()))
+                    .putInt(used)
+                    .putInt(name.length)
+                    .put((byte) g.getStatus().ordinal())
+                    .put((byte) g.getOwnership().ordinal())
+                    .put((byte) g.getPriority())
+                    .put((byte) 0);
+            used += name.length;
+        }
+        records.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(records.duplicate());
+        crc.update(arena, 0, used);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC).putInt(VERSION).putLong(stamp).putInt(n).putInt(used).putLong(crc.getValue());
+        header.flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] parts = {header, records, ByteBuffer.wrap(arena, 0, used)};
+            long left = HEADER_BYTES + records.remaining() + used;
+            while (left > 0) left -= ch.write(parts);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /** number of games */
+    int size() {
+        return rows;
+    }
+
+    int id(int row) { return buffer.getInt(at(row)); }
+    int platformId(int row) { return buffer.getInt(at(row) + 4); }
+    Game.Status status(int row) { return STATUSES[buffer.get(at(row) + 16)]; }
+    Game.Ownership ownership(int row) { return OWNERSHIPS[buffer.get(at(row) + 17)]; }
+    int priority(int row) { return buffer.get(at(row) + 18); }
+
+    /** decodes the name of row from the arena */
+    String name(int row) {
+        int start = buffer.getInt(at(row) + 8);
+        int length = buffer.getInt(at(row) + 12);
+        if (length > nameBytes.length) nameBytes = new byte[Math.max(length, nameBytes.length * 2)];
+        buffer.get(arenaStart + start, nameBytes, 0, length);
+        return new String(nameBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    //Helpers
+
+    private int at(int row) {
+        if (row < 0 || row >= rows) throw new IndexOutOfBoundsException("row " + row + " of " + rows);
+        return HEADER_BYTES + row * ROW_BYTES;
+    }
+} // END LIBRARYSNAPSHOT
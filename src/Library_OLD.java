@@ -9,9 +9,6 @@
  * Holds the user interface.
  */
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -102,34 +99,33 @@ public class Library_OLD {
         if (path == null) return "❌ Path is needed.";
         if (!Files.exists(path)) return "❌ File not found: " + path;
 
-        int added = 0, skipped = 0, lineNo = 0;
-        try (BufferedReader bufferedReader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                lineNo++;
-                if (line.trim().isEmpty() || line.trim().startsWith("#")) continue;
-                // Format: id|name|platform|status|priority|ownership
-                String[] parts = line.split("\\|");
-                if (parts.length != 6) { skipped++; continue; }
-                try {
-                    Game g = new Game(
-                            Integer.parseInt(parts[0].trim()),
-                            parts[1].trim(),
-                            parts[2].trim(),
-                            Game.Status.valueOf(parts[3].trim().toUpperCase(Locale.ROOT)),
-                            Integer.parseInt(parts[4].trim()),
-                            Game.Ownership.valueOf(parts[5].trim().toUpperCase(Locale.ROOT))
-                    );
-                    if (findById(g.getId()).isPresent()) { skipped++; continue; }
-                    games.add(g);
-                    added++;
-                } catch (Exception exception) {
-                    skipped++;
+        int[] counts = new int[2]; // [0] added, [1] skipped (the sink below can't change plain locals)
+        try {
+            // Format: id|name|platform|status|priority|ownership
+            GameFileParser.parse(path, new GameFileParser.RowSink() {
+                @Override
+                public void row(int id, String name, String platform, Game.Status status, int priority,
+                                Game.Ownership ownership) {
+                    if (status == null || ownership == null) { counts[1]++; return; } // unknown enum word
+                    try {
+                        Game g = new Game(id, name, platform, status, priority, ownership);
+                        if (findById(g.getId()).isPresent()) { counts[1]++; return; }
+                        games.add(g);
+                        counts[0]++;
+                    } catch (Exception exception) {
+                        counts[1]++;
+                    }
                 }
-            }
-        } catch (IOException exception) {
+
+                @Override
+                public void malformed() {
+                    counts[1]++;
+                }
+            });
+        } catch (Exception exception) {
             return " Error reading file: " + exception.getMessage();
         }
+        int added = counts[0], skipped = counts[1];
         return String.format("📥 Import complete. Added: %d, Skipped: %d, Total now: %d",
                 added, skipped, games.size());
     }
@@ -153,12 +149,7 @@ public class Library_OLD {
      */
 
     public int scoreFor(Game game) {
-        int statusWeight = switch (game.getStatus()) {
-            case UNPLAYED -> 3;
-            case PLAYING -> 1;
-            case BEATEN -> 0;
-        };
-        return (game.getPriority() * 2) + statusWeight;
+        return game.scoreWith(ScoringStrategy.DEFAULT); // same rule DbLibrary uses by default
     }
 
     /**
@@ -0,0 +1,118 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * ListGaps.java
+ * ------------------------------------
+ * Closes the gaps that removed games leave in DbLibrary's list and in everything that
+ * mirrors it position by position (BacklogStats, FilterIndex, GameColumns, IntGameMap)
+ * Every later entry moves down, so the list keeps its order (same as List.remove)
+ */
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * gone is always a sorted run of distinct positions (count of them used), all below the size.
+ */
+final class ListGaps {
+
+    private ListGaps() { }
+
+    /** how many gone positions are below position */
+    static int before(int[] gone, int count, int position) {
+        int low = 0, high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (gone[mid] < position) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Moves the used part of array (any primitive or object array, size entries) down over
+     * the gone positions. Returns the new size; entries past it are left as they were.
+     */
+    static int close(Object array, int size, int[] gone, int count) {
+        int at = gone[0];
+        for (int i = 0; i < count; i++) {
+            int from = gone[i] + 1;
+            int end = i + 1 < count ? gone[i + 1] : size;
+            System.arraycopy(array, from, array, at, end - from);
+            at += end - from;
+        }
+        return at;
+    }
+
+    /** same for a List (one remove(int) when there is a single gap) */
+    static <T> void close(List<T> list, int[] gone, int count) {
+        if (count == 1) {
+            list.remove(gone[0]);
+            return;
+        }
+        int size = list.size();
+        int at = gone[0];
+        for (int i = 0; i < count; i++) {
+            int end = i + 1 < count ? gone[i + 1] : size;
+            for (int from = gone[i] + 1; from < end; from++) list.set(at++, list.get(from));
+        }
+        list.subList(at, size).clear();
+    }
+
+    /**
+     * Same for bit positions: the gone bits are dropped and every later bit moves down. Returns
+     * the result as a new BitSet (bits itself when nothing moves), so callers store it back.
+     * Shifts 64 bits at a time inside one copy of the words, not one step per bit.
+     */
+    static BitSet close(BitSet bits, int[] gone, int count) {
+        int length = bits.length();
+        if (count == 0 || length <= gone[0]) return bits; // nothing at or after the first gap
+        long[] words = bits.toLongArray();
+        if (count == 1) { // one remove: every word from the gap on shifts down by one bit
+            int j = gone[0] >>> 6;
+            long first = words[j];
+            int last = words.length - 1;
+            for (int k = j; k < last; k++) words[k] = (words[k] >>> 1) | (words[k + 1] << 63);
+            words[last] >>>= 1;
+            long below = (1L << (gone[0] & 63)) - 1; // bits under the gap stay where they were
+            words[j] = (first & below) | (words[j] & ~below);
+            return BitSet.valueOf(words);
+        }
+        int at = gone[0];
+        for (int i = 0; i < count && gone[i] < length; i++) {
+            int end = i + 1 < count ? Math.min(gone[i + 1], length) : length;
+            for (int from = gone[i] + 1; from < end; ) {
+                int n = Math.min(64, end - from);
+                put(words, at, read(words, from, n), n); // at <= from: never ahead of the reads
+                at += n;
+                from += n;
+            }
+        }
+        for (; at < length; at += 64 - (at & 63)) put(words, at, 0, Math.min(64 - (at & 63), length - at));
+        return BitSet.valueOf(words);
+    }
+
+    //Helpers
+
+    /** n (1..64) bits starting at bit from, as the low bits of a long */
+    private static long read(long[] words, int from, int n) {
+        int i = from >>> 6;
+        int shift = from & 63;
+        long v = words[i] >>> shift;
+        if (shift != 0 && i + 1 < words.length) v |= words[i + 1] << (64 - shift);
+        return n == 64 ? v : v & ((1L << n) - 1);
+    }
+
+    /** overwrites the n (1..64) bits starting at bit at with the low n bits of v */
+    private static void put(long[] words, int at, long v, int n) {
+        int i = at >>> 6;
+        int shift = at & 63;
+        long mask = n == 64 ? -1L : (1L << n) - 1;
+        words[i] = (words[i] & ~(mask << shift)) | (v << shift);
+        if (shift + n > 64) {
+            long high = (1L << (shift + n - 64)) - 1;
+            words[i + 1] = (words[i + 1] & ~high) | (v >>> (64 - shift));
+        }
+    }
+} // END LISTGAPS
@@ -0,0 +1,111 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * LongIdSetMap.java
+ * ------------------------------------
+ * Small open-addressing map from a long key to an IntIdSet
+ * Used by NameIndex for its posting lists (no Long boxing)
+ */
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * long -> IntIdSet hash map with linear probing. Key 0 is not allowed (it marks an empty slot).
+ */
+final class LongIdSetMap {
+
+    private static final long FREE = 0;
+
+    private long[] keys = new long[16];
+    private IntIdSet[] values = new IntIdSet[16];
+    private int size;
+
+    /** number of keys in the map */
+    int size() {
+        return size;
+    }
+
+    /** set stored under key, or null */
+    IntIdSet get(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /** set stored under key, made (empty) the first time */
+    IntIdSet getOrAdd(long key) {
+        if (key == FREE) throw new IllegalArgumentException("key MUST NOT be 0");
+        if ((size + 1) * 2 > keys.length) grow();
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = new IntIdSet();
+        size++;
+        return values[slot];
+    }
+
+    /** removes key; returns false if it was not there */
+    boolean remove(long key) {
+        if (key == FREE) return false;
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != key) {
+            if (keys[slot] == FREE) return false;
+            slot = (slot + 1) & mask;
+        }
+        size--;
+
+        // Backward-shift delete, same as IntIdSet (probe chains stay unbroken)
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = FREE;
+        values[hole] = null;
+        return true;
+    }
+
+    /** calls action with every (set, key) pair (in no particular order) */
+    void forEach(ObjLongConsumer<IntIdSet> action) {
+        for (int i = 0; i < keys.length; i++) if (keys[i] != FREE) action.accept(values[i], keys[i]);
+    }
+
+    //Helpers
+
+    /** spreads keys that differ only in a few bits (trigrams of one word) over the table */
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        IntIdSet[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new IntIdSet[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == FREE) continue;
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != FREE) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+} // END LONGIDSETMAP
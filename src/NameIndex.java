@@ -0,0 +1,294 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * NameIndex.java
+ * ------------------------------------
+ * In-memory trigram index over game names for DbLibrary.searchByName
+ * Names are folded first (lower case, accents dropped, punctuation -> space)
+ * Every word is padded ("  word ") so its first trigrams double as a prefix index
+ */
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * (Trigram, name length) -> ids holding that trigram in a name of that length. A query walks
+ * the lengths from short to long and, at each length, only looks at the ids in its rarest
+ * trigram, checks them against the other trigrams and then against the folded name itself.
+ * Matches come out in rank order, so the search stops once limit ids are found: the cost
+ * follows the number of matches kept, not the number of names holding the query.
+ *
+ * A name matches when its folded form contains the folded query. A first query word
+ * shorter than 3 letters has no inner trigram, so it must start a word ("zz" finds "Zzz",
+ * not "Fizzy"). Ranking: exact name, then name starts with the query, then a word starts
+ * with it, then anywhere; shorter names first inside each group, then lower id. Each group
+ * gets its own pass (the first word's extra "\1\1w"/"\1wo" trigrams find the names starting
+ * with the query, the "  w"/" wo" ones every word start), and a pass only runs while the
+ * groups before it left room.
+ */
+final class NameIndex {
+
+    private static final char FIRST = '\u0001'; // pads the first word's extra trigrams
+    private static final int LONGEST = 0xFFFF; // names longer than this share one length (16 bits of the key)
+
+    private final LongIdSetMap postings = new LongIdSetMap(); // key(trigram, length) -> ids
+    private final IntStringMap folded = new IntStringMap(); // id -> folded name
+    private int[] namesOfLength = new int[64]; // folded length -> how many names have it
+
+    /** number of names indexed */
+    int size() {
+        return folded.size();
+    }
+
+    /** indexes (or re-indexes) the name of id */
+    void add(int id, String name) {
+        String f = fold(name);
+        String old = folded.put(id, f);
+        if (old != null) unindex(id, old);
+        int length = lengthOf(f);
+        if (length >= namesOfLength.length) {
+            namesOfLength = Arrays.copyOf(namesOfLength, Math.max(length + 1, namesOfLength.length * 2));
+        }
+        namesOfLength[length]++;
+        for (long gram : nameGrams(f)) postings.getOrAdd(key(gram, length)).add(id);
+    }
+
+    /** drops id from the index */
+    void remove(int id) {
+        String old = folded.remove(id);
+        if (old != null) unindex(id, old);
+    }
+
+    /** the game at oldId is now updated (new id and/or name); no work when neither changed */
+    void change(int oldId, Game updated) {
+        if (updated.getId() == oldId && fold(updated.getName()).equals(folded.get(oldId))) return;
+        remove(oldId);
+        add(updated.getId(), updated.getName());
+    }
+
+    /** up to limit matching ids, best first */
+    int[] search(String query, int limit) {
+        String q = fold(query);
+        if (q.isEmpty() || limit <= 0) return new int[0];
+
+        long[] grams = queryGrams(q);
+        boolean wordStart = q.indexOf(' ') < 0 ? q.length() < 3 : q.indexOf(' ') < 3;
+        Hits hits = new Hits(limit);
+        scan(with(grams, startGram(FIRST, q)), q, 0, 1, hits); // exact name, name starts with q
+        if (!hits.full()) scan(with(grams, startGram(' ', q)), q, 2, 2, hits); // a word starts with q
+        if (!hits.full() && !wordStart) scan(grams, q, 3, 3, hits); // anywhere
+        return hits.ids();
+    }
+
+    /** recomputes from scratch and compares; null when it all matches */
+    String verify(List<Game> games) {
+        NameIndex fresh = new NameIndex();
+        for (Game g : games) fresh.add(g.getId(), g.getName());
+        String[] problem = {null};
+        if (fresh.folded.size() != folded.size()) return "folded names differ";
+        fresh.folded.forEach((name, id) -> {
+            if (problem[0] == null && !name.equals(folded.get(id))) problem[0] = "folded names differ";
+        });
+        if (problem[0] != null) return problem[0];
+        if (fresh.postings.size() != postings.size()) return "trigram sets differ";
+        fresh.postings.forEach((ids, key) -> {
+            IntIdSet mine = postings.get(key);
+            if (problem[0] == null && mine == null) problem[0] = "trigram sets differ";
+            else if (problem[0] == null && mine.size() != ids.size()) problem[0] = "posting sizes differ";
+        });
+        if (problem[0] != null) return problem[0];
+        for (int length = 0; length < Math.max(namesOfLength.length, fresh.namesOfLength.length); length++) {
+            if (fresh.namesAt(length) != namesAt(length)) return "name lengths differ";
+        }
+        return null;
+    }
+
+    /**
+     * Lower case, accents removed (é -> e), anything that is not a letter or digit becomes one
+     * space, no leading/trailing space. "Pokémon: Scarlet" -> "pokemon scarlet".
+     */
+    static String fold(String s) {
+        if (s == null) return "";
+        boolean ascii = true;
+        for (int i = 0; i < s.length() && ascii; i++) ascii = s.charAt(i) < 128;
+        String src = ascii ? s : Normalizer.normalize(s, Normalizer.Form.NFD);
+
+        StringBuilder sb = new StringBuilder(src.length());
+        boolean space = false;
+        for (int i = 0; i < src.length(); i++) {
+            char c = src.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                    || type == Character.ENCLOSING_MARK) continue;
+            if (Character.isLetterOrDigit(c)) {
+                if (space && sb.length() > 0) sb.append(' ');
+                space = false;
+                sb.append(Character.toLowerCase(c));
+            } else {
+                space = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    //Helpers
+
+    /**
+     * One ranking pass: walks the lengths from |q| up and adds the ids (lowest first inside
+     * a length) whose name holds every gram and whose group is minGroup..maxGroup, until out
+     * is full. In the first pass group 0 only happens at length |q|, where group 1 cannot,
+     * so inside one length every id added has the same group.
+     */
+    private void scan(long[] grams, String q, int minGroup, int maxGroup, Hits out) {
+        String spaced = " " + q;
+        IntIdSet[] lists = new IntIdSet[grams.length];
+        int[][] found = {new int[16]};
+        int[] count = {0};
+        for (int length = Math.min(q.length(), LONGEST); length < namesOfLength.length && !out.full(); length++) {
+            if (namesOfLength[length] == 0) continue;
+            int rarest = -1;
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(key(grams[i], length));
+                if (lists[i] == null) { rarest = -1; break; } // some gram is in no name of this length
+                if (rarest < 0 || lists[i].size() < lists[rarest].size()) rarest = i;
+            }
+            if (rarest < 0) continue;
+
+            int r = rarest;
+            count[0] = 0;
+            lists[rarest].forEach(id -> {
+                for (int i = 0; i < lists.length; i++) if (i != r && !lists[i].contains(id)) return;
+                if (count[0] == found[0].length) found[0] = Arrays.copyOf(found[0], count[0] * 2);
+                found[0][count[0]++] = id;
+            });
+            // lowest id first, and only as many names checked as it takes to fill out
+            Arrays.sort(found[0], 0, count[0]);
+            for (int i = 0; i < count[0] && !out.full(); i++) {
+                int group = group(folded.get(found[0][i]), q, spaced);
+                if (group >= minGroup && group <= maxGroup) out.add(found[0][i]);
+            }
+        }
+    }
+
+    /** the best ids so far, in rank order; full at limit */
+    private static final class Hits {
+        private final int limit;
+        private int[] ids = new int[16];
+        private int size;
+
+        Hits(int limit) {
+            this.limit = limit;
+        }
+
+        boolean full() {
+            return size == limit;
+        }
+
+        void add(int id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, (int) Math.min((long) size * 2, limit));
+            ids[size++] = id;
+        }
+
+        int[] ids() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    private void unindex(int id, String f) {
+        int length = lengthOf(f);
+        namesOfLength[length]--;
+        for (long gram : nameGrams(f)) {
+            long key = key(gram, length);
+            IntIdSet ids = postings.get(key);
+            if (ids != null && ids.remove(id) && ids.size() == 0) postings.remove(key);
+        }
+    }
+
+    private int namesAt(int length) {
+        return length < namesOfLength.length ? namesOfLength[length] : 0;
+    }
+
+    /** folded length as the index keeps it (capped at LONGEST) */
+    private static int lengthOf(String f) {
+        return Math.min(f.length(), LONGEST);
+    }
+
+    /** posting key: the 48-bit trigram above the 16-bit length (never 0: a trigram has a non-zero char) */
+    private static long key(long gram, int length) {
+        return gram << 16 | length;
+    }
+
+    /**
+     * The trigram every word starting like q holds, padded with pad: pad+pad+c for a 1-letter
+     * q, pad+c1+c2 otherwise (' ' = any word, FIRST = the first word)
+     */
+    private static long startGram(char pad, String q) {
+        return q.length() < 2 ? gram("" + pad + pad + q.charAt(0), 0) : gram(pad + q.substring(0, 2), 0);
+    }
+
+    /** grams plus one more, repeats dropped */
+    private static long[] with(long[] grams, long extra) {
+        long[] out = Arrays.copyOf(grams, grams.length + 1);
+        out[grams.length] = extra;
+        return unique(out, out.length);
+    }
+
+    /**
+     * Trigrams of every padded word ("  word ") of a folded name, plus the first two of the
+     * first word padded with FIRST ("\1\1w", "\1wo"), without repeats
+     */
+    private static long[] nameGrams(String f) {
+        long[] out = new long[f.length() * 3 + 5];
+        int n = 0;
+        for (String word : f.split(" ")) {
+            if (word.isEmpty()) continue;
+            if (n == 0) {
+                String first = "" + FIRST + FIRST + word + " ";
+                out[n++] = gram(first, 0);
+                out[n++] = gram(first, 1);
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) out[n++] = gram(padded, i);
+        }
+        return unique(out, n);
+    }
+
+    /**
+     * Trigrams every match must hold: the inner trigrams of each query word, or "  w"/" wo"
+     * for a word of 1-2 letters (a word that starts with it).
+     */
+    private static long[] queryGrams(String q) {
+        long[] out = new long[q.length() * 3 + 3];
+        int n = 0;
+        for (String word : q.split(" ")) {
+            String s = word.length() >= 3 ? word : "  " + word;
+            for (int i = 0; i + 3 <= s.length(); i++) out[n++] = gram(s, i);
+        }
+        return unique(out, n);
+    }
+
+    /** the first n values sorted, repeats dropped */
+    private static long[] unique(long[] values, int n) {
+        Arrays.sort(values, 0, n);
+        int k = 0;
+        for (int i = 0; i < n; i++) if (k == 0 || values[i] != values[k - 1]) values[k++] = values[i];
+        return Arrays.copyOf(values, k);
+    }
+
+    private static long gram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    /**
+     * Rank group of a name for q (smaller = better): 0 exact, 1 starts with q, 2 a word starts
+     * with q (spaced = " " + q), 3 anywhere; -1 when the name does not really contain q
+     */
+    private static int group(String name, String q, String spaced) {
+        if (name.equals(q)) return 0;
+        if (name.startsWith(q)) return 1;
+        if (name.contains(spaced)) return 2;
+        return name.contains(q) ? 3 : -1;
+    }
+} // END NAMEINDEX
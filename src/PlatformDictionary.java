@@ -0,0 +1,102 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * PlatformDictionary.java
+ * ------------------------------------
+ * Platform names <-> small int codes, with one canonical spelling per platform
+ * "pc", "PC" and " Pc " are the same platform; whichever spelling came first is the one kept
+ * Every Game then shares the same String for its platform instead of holding its own copy
+ */
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Codes are handed out by the caller (DbLibrary uses the platforms table's ids) or by
+ * intern() (next free code). Lookups first try the exact canonical spelling, so the usual
+ * case is one hash lookup with no lower-casing. Lookups never change the dictionary, so
+ * readers can share it while nobody calls put/intern/clear.
+ */
+final class PlatformDictionary {
+
+    private String[] names = new String[16];                        // code -> canonical spelling
+    private final Map<String, Integer> byKey = new HashMap<>();       // folded key -> code
+    private final Map<String, Integer> bySpelling = new HashMap<>();  // canonical spelling -> code
+    private int nextCode = 1;
+
+    /** number of platforms */
+    int size() {
+        return byKey.size();
+    }
+
+    /** code for platform (any capitalisation), or -1 if it is not in the dictionary */
+    int code(String platform) {
+        if (platform == null) return -1;
+        Integer code = bySpelling.get(platform);
+        if (code == null) code = byKey.get(key(platform));
+        return code == null ? -1 : code;
+    }
+
+    /** canonical spelling for code, or null */
+    String name(int code) {
+        return code > 0 && code < names.length ? names[code] : null;
+    }
+
+    /** the canonical spelling if platform is known, otherwise platform tidied (see spelling) */
+    String canonical(String platform) {
+        int code = code(platform);
+        return code > 0 ? names[code] : platform == null ? null : spelling(platform);
+    }
+
+    /** code for platform, adding it (tidied, see spelling) with the next free code if new */
+    int intern(String platform) {
+        int code = code(platform);
+        if (code > 0) return code;
+        code = nextCode;
+        put(code, spelling(platform));
+        return code;
+    }
+
+    /** records code -> name (e.g. a row of the platforms table) */
+    void put(int code, String name) {
+        if (code <= 0) throw new IllegalArgumentException("platform code MUST be > 0");
+        if (code >= names.length) names = Arrays.copyOf(names, Math.max(names.length * 2, code + 1));
+        names[code] = name;
+        byKey.put(key(name), code);
+        bySpelling.put(name, code);
+        nextCode = Math.max(nextCode, code + 1);
+    }
+
+    /** forgets everything */
+    void clear() {
+        Arrays.fill(names, null);
+        byKey.clear();
+        bySpelling.clear();
+        nextCode = 1;
+    }
+
+    /** the case-folded lookup key: spelling() in lower case ("Xbox  One " -> "xbox one") */
+    static String key(String platform) {
+        return spelling(platform).toLowerCase(Locale.ROOT);
+    }
+
+    /** platform trimmed with inner runs of spaces collapsed to one, case kept ("Xbox  One " -> "Xbox One") */
+    static String spelling(String platform) {
+        StringBuilder sb = new StringBuilder(platform.length());
+        boolean space = false;
+        for (int i = 0; i < platform.length(); i++) {
+            char c = platform.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) sb.append(' ');
+                space = false;
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+} // END PLATFORMDICTIONARY
@@ -0,0 +1,31 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * ScoringStrategy.java
+ * ------------------------------------
+ * How a game's backlog score is worked out
+ * DEFAULT is the original rule (priority * 2 + status weight)
+ * Plug in a WeightedScoring (or any other) into DbLibrary to rank the backlog differently
+ */
+
+/**
+ * Turns a game into its backlog score (higher = play it sooner).
+ * Implementations should be immutable: Game caches the last score per strategy object.
+ */
+@FunctionalInterface
+public interface ScoringStrategy {
+
+    /** the original CheckPoint score: priority * 2, plus 3 for UNPLAYED, 1 for PLAYING, 0 for BEATEN */
+    ScoringStrategy DEFAULT = game -> {
+        int statusWeight = switch (game.getStatus()) {
+            case UNPLAYED -> 3;
+            case PLAYING  -> 1;
+            case BEATEN   -> 0;
+        };
+        return (game.getPriority() * 2) + statusWeight;
+    };
+
+    /** score for one game */
+    int score(Game game);
+} // END SCORINGSTRATEGY
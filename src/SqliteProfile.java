@@ -0,0 +1,158 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 16th, 2026
+ * SqliteProfile.java
+ * ------------------------------------
+ * The SQLite settings (PRAGMAs) DbLibrary applies when it opens its connection
+ * Comes with 3 presets: durable, balanced and bulk-load
+ * Can also be read from a .properties file
+ */
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * A named set of SQLite PRAGMA values.
+ */
+public final class SqliteProfile {
+
+    // must come before the presets (static init runs top to bottom)
+    private static final String[] JOURNAL_MODES = {"DELETE", "TRUNCATE", "PERSIST", "MEMORY", "WAL", "OFF"};
+    private static final String[] SYNC_MODES = {"OFF", "NORMAL", "FULL", "EXTRA"};
+    private static final String[] TEMP_STORES = {"DEFAULT", "FILE", "MEMORY"};
+
+    /** WAL + full fsync on every commit: safest, slowest writes */
+    public static final SqliteProfile DURABLE =
+            new SqliteProfile("durable", "WAL", "FULL", 0L, -2_000, "DEFAULT", 5_000);
+
+    /** WAL + normal sync: a crash can lose the last commit but never corrupts the file */
+    public static final SqliteProfile BALANCED =
+            new SqliteProfile("balanced", "WAL", "NORMAL", 64L * 1024 * 1024, -8_000, "MEMORY", 5_000);
+
+    /** for big imports: no fsync, big cache, temp tables in memory */
+    public static final SqliteProfile BULK_LOAD =
+            new SqliteProfile("bulk-load", "WAL", "OFF", 256L * 1024 * 1024, -64_000, "MEMORY", 30_000);
+
+    private final String name;
+    private final String journalMode;
+    private final String synchronous;
+    private final long mmapSize;      // bytes, 0 = off
+    private final int cacheSize;      // pages if > 0, KiB if < 0 (SQLite rule)
+    private final String tempStore;
+    private final int busyTimeoutMs;  // how long to wait on a locked file before SQLITE_BUSY
+
+    public SqliteProfile(String name, String journalMode, String synchronous, long mmapSize,
+                         int cacheSize, String tempStore, int busyTimeoutMs) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("profile name required");
+        if (mmapSize < 0) throw new IllegalArgumentException("mmap_size MUST be >= 0");
+        if (busyTimeoutMs < 0) throw new IllegalArgumentException("busy_timeout MUST be >= 0");
+        this.name = name;
+        this.journalMode = oneOf("journal_mode", journalMode, JOURNAL_MODES);
+        this.synchronous = oneOf("synchronous", synchronous, SYNC_MODES);
+        this.mmapSize = mmapSize;
+        this.cacheSize = cacheSize;
+        this.tempStore = oneOf("temp_store", tempStore, TEMP_STORES);
+        this.busyTimeoutMs = busyTimeoutMs;
+    }
+
+    /** finds a preset by name (durable, balanced, bulk-load) */
+    public static SqliteProfile preset(String name) {
+        if (name == null) throw new IllegalArgumentException("profile name required");
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "durable"              -> DURABLE;
+            case "balanced"             -> BALANCED;
+            case "bulk-load", "bulk"    -> BULK_LOAD;
+            default -> throw new IllegalArgumentException("Unknown profile: " + name);
+        };
+    }
+
+    /**
+     * Reads a profile from properties. "profile" picks the preset to start from (default balanced),
+     * then journal_mode, synchronous, mmap_size, cache_size, temp_store, busy_timeout override it.
+     */
+    public static SqliteProfile fromProperties(Properties props) {
+        SqliteProfile base = preset(props.getProperty("profile", "balanced"));
+        try {
+            return new SqliteProfile(
+                    props.getProperty("profile", base.name).trim(),
+                    props.getProperty("journal_mode", base.journalMode),
+                    props.getProperty("synchronous", base.synchronous),
+                    Long.parseLong(props.getProperty("mmap_size", String.valueOf(base.mmapSize)).trim()),
+                    Integer.parseInt(props.getProperty("cache_size", String.valueOf(base.cacheSize)).trim()),
+                    props.getProperty("temp_store", base.tempStore),
+                    Integer.parseInt(props.getProperty("busy_timeout", String.valueOf(base.busyTimeoutMs)).trim())
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad number in SQLite profile: " + e.getMessage());
+        }
+    }
+
+    /** reads a profile from a .properties file */
+    public static SqliteProfile fromFile(Path file) throws IOException {
+        Properties props = new Properties();
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(r);
+        }
+        return fromProperties(props);
+    }
+
+    /**
+     * Profile for a database file: uses "<db file>.properties" when it exists
+     * (for example checkpoint.db.properties), otherwise BALANCED.
+     */
+    public static SqliteProfile forDatabase(String sqliteFilePath) {
+        Path file = Path.of(sqliteFilePath + ".properties");
+        if (!Files.isRegularFile(file)) return BALANCED;
+        try {
+            return fromFile(file);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("⚠️ SQLite profile " + file + " ignored: " + e.getMessage());
+            return BALANCED;
+        }
+    }
+
+    /** runs the PRAGMAs on an open connection */
+    void applyTo(Connection c) throws SQLException {
+        try (Statement st = c.createStatement()) {
+            // busy_timeout first so the journal_mode switch can wait on another process
+            st.execute("PRAGMA busy_timeout=" + busyTimeoutMs);
+            st.execute("PRAGMA journal_mode=" + journalMode);
+            st.execute("PRAGMA synchronous=" + synchronous);
+            st.execute("PRAGMA mmap_size=" + mmapSize);
+            st.execute("PRAGMA cache_size=" + cacheSize);
+            st.execute("PRAGMA temp_store=" + tempStore);
+        }
+    }
+
+    // Getters
+
+    public String getName() { return name; }
+    public String getJournalMode() { return journalMode; }
+    public String getSynchronous() { return synchronous; }
+    public long getMmapSize() { return mmapSize; }
+    public int getCacheSize() { return cacheSize; }
+    public String getTempStore() { return tempStore; }
+    public int getBusyTimeoutMs() { return busyTimeoutMs; }
+
+    @Override public String toString() {
+        return String.format("%s (journal=%s, sync=%s, mmap=%d, cache=%d, temp=%s, busy=%dms)",
+                name, journalMode, synchronous, mmapSize, cacheSize, tempStore, busyTimeoutMs);
+    }
+
+    /** PRAGMA values go straight into SQL, so only allow the known keywords */
+    private static String oneOf(String pragma, String value, String[] allowed) {
+        if (value == null) throw new IllegalArgumentException(pragma + " required");
+        String v = value.trim().toUpperCase(Locale.ROOT);
+        for (String a : allowed) if (a.equals(v)) return v;
+        throw new IllegalArgumentException("Bad " + pragma + ": " + value);
+    }
+} // END SQLITEPROFILE
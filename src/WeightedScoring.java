@@ -0,0 +1,79 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * WeightedScoring.java
+ * ------------------------------------
+ * A ScoringStrategy with our own weights:
+ * priority weight, a weight per status, bonus per ownership and boosts per platform
+ */
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable weighted score. Each with...() call returns a new copy, so a strategy
+ * already handed to DbLibrary never changes underneath its cached scores.
+ */
+public final class WeightedScoring implements ScoringStrategy {
+
+    private final int priorityWeight;
+    private final EnumMap<Game.Status, Integer> statusWeights;
+    private final EnumMap<Game.Ownership, Integer> ownershipBonus;
+    private final Map<String, Integer> platformBoost; // keys upper-cased
+
+    /** same numbers as ScoringStrategy.DEFAULT: priority*2 + 3/1/0 by status */
+    public WeightedScoring() {
+        this(2, 3, 1, 0);
+    }
+
+    public WeightedScoring(int priorityWeight, int unplayedWeight, int playingWeight, int beatenWeight) {
+        this.priorityWeight = priorityWeight;
+        this.statusWeights = new EnumMap<>(Game.Status.class);
+        statusWeights.put(Game.Status.UNPLAYED, unplayedWeight);
+        statusWeights.put(Game.Status.PLAYING, playingWeight);
+        statusWeights.put(Game.Status.BEATEN, beatenWeight);
+        this.ownershipBonus = new EnumMap<>(Game.Ownership.class);
+        this.platformBoost = new HashMap<>();
+    }
+
+    private WeightedScoring(WeightedScoring from) {
+        this.priorityWeight = from.priorityWeight;
+        this.statusWeights = new EnumMap<>(from.statusWeights);
+        this.ownershipBonus = new EnumMap<>(from.ownershipBonus);
+        this.platformBoost = new HashMap<>(from.platformBoost);
+    }
+
+    /** copy that adds boost to every game on platform (case-insensitive) */
+    public WeightedScoring withPlatformBoost(String platform, int boost) {
+        if (platform == null || platform.trim().isEmpty()) throw new IllegalArgumentException("platform required");
+        WeightedScoring copy = new WeightedScoring(this);
+        copy.platformBoost.put(platform.trim().toUpperCase(Locale.ROOT), boost);
+        return copy;
+    }
+
+    /** copy that adds bonus to every game with this ownership */
+    public WeightedScoring withOwnershipBonus(Game.Ownership ownership, int bonus) {
+        if (ownership == null) throw new IllegalArgumentException("ownership required");
+        WeightedScoring copy = new WeightedScoring(this);
+        copy.ownershipBonus.put(ownership, bonus);
+        return copy;
+    }
+
+    @Override
+    public int score(Game game) {
+        int score = game.getPriority() * priorityWeight + statusWeights.get(game.getStatus());
+        score += ownershipBonus.getOrDefault(game.getOwnership(), 0);
+        if (!platformBoost.isEmpty()) {
+            score += platformBoost.getOrDefault(game.getPlatform().trim().toUpperCase(Locale.ROOT), 0);
+        }
+        return score;
+    }
+
+    @Override public String toString() {
+        return "WeightedScoring(priority x" + priorityWeight + ", status " + statusWeights
+                + ", ownership " + ownershipBonus + ", platform " + platformBoost + ")";
+    }
+} // END WEIGHTEDSCORING
@@ -0,0 +1,113 @@
+/**
+ * Stephanie Ortiz
+ * CEN 3024 - Software Development 1
+ * October 17th, 2026
+ * WriteBehindQueue.java
+ * ------------------------------------
+ * Edits waiting to be saved by DbLibrary in write-behind mode
+ * One entry per game id holding where that row should end up (its last values, or deleted),
+ * so ten quick edits to the same game are saved as one row write
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Not thread-safe by itself: DbLibrary only touches it while holding its write lock. The
+ * writer thread just runs the flush task DbLibrary gave it, which takes that lock too.
+ * A flush is asked for once flushRows ids are waiting, or flushMillis after the first edit
+ * since the last flush, whichever comes first.
+ */
+final class WriteBehindQueue {
+
+    private final Map<Integer, Game> pending = new LinkedHashMap<>(); // id -> row to save, null = delete
+    private final int flushRows;
+    private final long flushMillis;
+    private final Runnable flush;
+    private final ScheduledExecutorService writer;
+    private boolean timedFlushAsked; // a flush is scheduled flushMillis after the first edit
+    private boolean fullFlushAsked;  // a flush was asked for because flushRows ids are waiting
+    private String failure; // why the last flush failed, null after a good one
+
+    WriteBehindQueue(int flushRows, long flushMillis, Runnable flush) {
+        if (flushRows <= 0) throw new IllegalArgumentException("flushRows MUST be > 0");
+        if (flushMillis <= 0) throw new IllegalArgumentException("flushMillis MUST be > 0");
+        this.flushRows = flushRows;
+        this.flushMillis = flushMillis;
+        this.flush = flush;
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "checkpoint-write-behind");
+            t.setDaemon(true); // close() flushes; a forgotten library must not keep the JVM alive
+            return t;
+        });
+    }
+
+    /** the row for game.getId() should end up as game (replaces anything queued for that id) */
+    void upsert(Game game) {
+        pending.put(game.getId(), game);
+        scheduleFlush();
+    }
+
+    /** the row with id should end up deleted */
+    void delete(int id) {
+        pending.put(id, null);
+        scheduleFlush();
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /** everything queued (in the order ids were first queued), leaving the queue empty */
+    Map<Integer, Game> drain() {
+        Map<Integer, Game> batch = new LinkedHashMap<>(pending);
+        pending.clear();
+        timedFlushAsked = false;
+        fullFlushAsked = false;
+        return batch;
+    }
+
+    /** a drained batch could not be saved: its entries go back, unless an id was queued again since */
+    void restore(Map<Integer, Game> batch, String why) {
+        Map<Integer, Game> newer = new LinkedHashMap<>(pending);
+        pending.clear();
+        pending.putAll(batch);
+        pending.putAll(newer);
+        failure = why;
+    }
+
+    /** the last flush worked */
+    void saved() {
+        failure = null;
+    }
+
+    /** why the last flush failed, or null */
+    String failure() {
+        return failure;
+    }
+
+    /** stops the writer thread (a flush task that is already waiting for the lock finds nothing to do) */
+    void shutdown() {
+        writer.shutdownNow();
+    }
+
+    //Helpers
+
+    private void scheduleFlush() {
+        if (failure != null) return; // the caller retries through flush() or its next edit
+        if (pending.size() >= flushRows && !fullFlushAsked) {
+            writer.execute(flush); // the timed one may still run later and find little or nothing to do
+            fullFlushAsked = true;
+        } else if (!timedFlushAsked) {
+            writer.schedule(flush, flushMillis, TimeUnit.MILLISECONDS);
+            timedFlushAsked = true;
+        }
+    }
+} // END WRITEBEHINDQUEUE
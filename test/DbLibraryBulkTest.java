@@ -0,0 +1,116 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryBulkTest {
+
+    @TempDir Path temp;
+
+    private String db;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("bulk.db").toString();
+        try (DbLibrary seed = new DbLibrary(db)) {
+            seed.add(new Game(1, "Existing", "PC", Game.Status.BEATEN, 2, Game.Ownership.DIGITAL));
+        }
+    }
+
+    private static Game game(int id) {
+        return new Game(id, "Game " + id, "PC", Game.Status.UNPLAYED, 1 + id % 5, Game.Ownership.DIGITAL);
+    }
+
+    @Test
+    void addAll_reportsEveryRow_inInputOrder() {
+        try (DbLibrary library = new DbLibrary(db)) {
+            List<Game> batch = new ArrayList<>(List.of(game(2), game(1), game(3), game(2)));
+            batch.add(null);
+            BulkResult r = library.addAll(batch);
+
+            assertTrue(r.isCommitted());
+            assertEquals(5, r.size());
+            assertEquals(List.of(BulkResult.Outcome.ADDED, BulkResult.Outcome.ALREADY_EXISTS, BulkResult.Outcome.ADDED,
+                    BulkResult.Outcome.REPEATED, BulkResult.Outcome.INVALID), outcomes(r));
+            assertArrayEquals(new int[]{2, 3}, r.idsWith(BulkResult.Outcome.ADDED));
+            assertEquals(3, library.listAll().size());
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            assertEquals(3, reopened.listAll().size());
+        }
+    }
+
+    @Test
+    void removeAll_reportsEveryRow_andKeepsMemoryInSync() {
+        try (DbLibrary library = new DbLibrary(db)) {
+            List<Game> many = new ArrayList<>();
+            for (int id = 2; id <= 2_000; id++) many.add(game(id));
+            assertEquals(1_999, library.addAll(many).count(BulkResult.Outcome.ADDED));
+
+            int[] doomed = new int[1_002];
+            for (int i = 0; i < 1_000; i++) doomed[i] = 2 + 2 * i; // even ids 2..2000
+            doomed[1_000] = 4;       // repeated
+            doomed[1_001] = 999_999; // unknown
+            BulkResult r = library.removeAll(doomed);
+
+            assertEquals(1_000, r.count(BulkResult.Outcome.REMOVED));
+            assertEquals(BulkResult.Outcome.REPEATED, r.outcome(1_000));
+            assertEquals(BulkResult.Outcome.NOT_FOUND, r.outcome(1_001));
+            assertEquals(1_000, library.listAll().size());
+            assertTrue(library.findById(4).isEmpty());
+            assertTrue(library.findById(5).isPresent());
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            assertEquals(1_000, reopened.listAll().size());
+        }
+    }
+
+    @Test
+    void failedTransaction_changesNothing() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db)) {
+            try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+                 Statement st = c.createStatement()) {
+                st.executeUpdate("CREATE TRIGGER no_fifty BEFORE INSERT ON games WHEN NEW.id = 50 "
+                        + "BEGIN SELECT RAISE(ABORT, 'id 50 refused'); END");
+            }
+            List<Game> batch = new ArrayList<>();
+            for (int id = 10; id <= 60; id++) batch.add(game(id));
+            BulkResult r = library.addAll(batch);
+
+            assertFalse(r.isCommitted());
+            assertTrue(r.summary().startsWith("❌"), r.summary());
+            assertEquals(51, r.count(BulkResult.Outcome.ROLLED_BACK));
+            assertEquals(1, library.listAll().size());
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            assertEquals(1, reopened.listAll().size(), "earlier rows of the batch were rolled back too");
+        }
+    }
+
+    @Test
+    void pagedLibrary_letsSqliteSpotTakenAndMissingIds() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            BulkResult added = paged.addAll(List.of(game(1), game(7)));
+            assertEquals(List.of(BulkResult.Outcome.ALREADY_EXISTS, BulkResult.Outcome.ADDED), outcomes(added));
+
+            BulkResult removed = paged.removeAll(new int[]{7, 8});
+            assertEquals(List.of(BulkResult.Outcome.REMOVED, BulkResult.Outcome.NOT_FOUND), outcomes(removed));
+            assertFalse(paged.isFullyLoaded());
+            assertEquals(1, paged.count());
+        }
+    }
+
+    private static List<BulkResult.Outcome> outcomes(BulkResult r) {
+        BulkResult.Outcome[] out = new BulkResult.Outcome[r.size()];
+        for (int i = 0; i < r.size(); i++) out[i] = r.outcome(i);
+        return Arrays.asList(out);
+    }
+}
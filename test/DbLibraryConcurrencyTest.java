@@ -0,0 +1,152 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryConcurrencyTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int OPS_PER_WRITER = 400;
+    private static final int SHARED = 200; // ids 1..200 are updated by every writer
+    private static final Pattern TOTALS =
+            Pattern.compile("Total: (\\d+) \\| Unplayed: (\\d+) \\| Playing: (\\d+) \\| Beaten: (\\d+)");
+
+    @TempDir Path temp;
+
+    private String db;
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("stress.db").toString();
+        library = new DbLibrary(db);
+        List<Game> seed = new ArrayList<>();
+        for (int id = 1; id <= SHARED; id++) seed.add(game(id, new Random(id)));
+        library.addAll(seed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    private static Game game(int id, Random random) {
+        Game.Status[] statuses = Game.Status.values();
+        return new Game(id, "Game " + id, random.nextBoolean() ? "PC" : "PS5",
+                statuses[random.nextInt(statuses.length)], 1 + random.nextInt(5), Game.Ownership.DIGITAL);
+    }
+
+    @Test
+    @Timeout(120)
+    void readersAndWriters_neverSeeBrokenState() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS + READERS);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int base = 10_000 * (w + 1); // each writer adds/removes in its own id range
+            writers.add(pool.submit(() -> {
+                Random random = new Random(base);
+                List<Integer> mine = new ArrayList<>();
+                try {
+                    start.await();
+                    for (int op = 0; op < OPS_PER_WRITER; op++) {
+                        switch (random.nextInt(4)) {
+                            case 0 -> {
+                                int id = base + op;
+                                assertTrue(library.add(game(id, random)).startsWith("✅"));
+                                mine.add(id);
+                            }
+                            case 1 -> {
+                                if (mine.isEmpty()) break;
+                                int id = mine.remove(random.nextInt(mine.size()));
+                                assertTrue(library.remove(id).startsWith("🗑️"));
+                            }
+                            case 2 -> library.update(1 + random.nextInt(SHARED), new GameChanges()
+                                    .status(Game.Status.values()[random.nextInt(3)]).priority(1 + random.nextInt(5)));
+                            default -> library.updateField(1 + random.nextInt(SHARED), "platform",
+                                    random.nextBoolean() ? "PC" : "Switch");
+                        }
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }));
+        }
+
+        for (int r = 0; r < READERS; r++) {
+            int seed = r;
+            pool.submit(() -> {
+                Random random = new Random(seed);
+                try {
+                    start.await();
+                    while (writing.get()) {
+                        int id = random.nextBoolean() ? 1 + random.nextInt(SHARED) : 10_000 * (1 + random.nextInt(WRITERS)) + random.nextInt(OPS_PER_WRITER);
+                        library.findById(id).ifPresent(g -> assertEquals(id, g.getId()));
+
+                        List<Game> snapshot = library.listAll();
+                        Set<Integer> ids = new HashSet<>();
+                        for (Game g : snapshot) assertTrue(ids.add(g.getId()), "duplicate id " + g.getId());
+                        assertEquals(snapshot.size(), ids.size());
+                        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(snapshot.get(0)));
+
+                        Matcher m = TOTALS.matcher(library.backlogReport(5));
+                        assertTrue(m.find());
+                        long total = Long.parseLong(m.group(1));
+                        assertEquals(total, Long.parseLong(m.group(2)) + Long.parseLong(m.group(3)) + Long.parseLong(m.group(4)));
+                        assertTrue(total >= SHARED, "shared games are never removed");
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            });
+        }
+
+        start.countDown();
+        for (Future<?> f : writers) f.get();
+        writing.set(false);
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(failures.size() + " thread(s) failed");
+            failures.forEach(error::addSuppressed);
+            throw error;
+        }
+        assertTrue(library.checkStatsConsistency().startsWith("✅"), library.checkStatsConsistency());
+
+        // memory and SQLite agree row for row
+        List<String> inMemory = new ArrayList<>();
+        for (Game g : library.listAll()) inMemory.add(g.toString());
+        Collections.sort(inMemory);
+        List<String> inDb = new ArrayList<>();
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            for (Game g : reopened.listAll()) inDb.add(g.toString());
+        }
+        Collections.sort(inDb);
+        assertEquals(inDb, inMemory);
+    }
+
+    @Test
+    void listAll_isASnapshot() {
+        List<Game> before = library.listAll();
+        Game first = before.get(0);
+        library.remove(first.getId());
+        library.add(new Game(99_999, "Later", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+        library.update(2, new GameChanges().name("Renamed"));
+
+        assertEquals(SHARED, before.size());
+        assertSame(first, before.get(0));
+        assertEquals("Game 2", before.stream().filter(g -> g.getId() == 2).findFirst().orElseThrow().getName());
+        assertEquals("Renamed", library.findById(2).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,120 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryExportTest {
+
+    @TempDir Path temp;
+
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() {
+        library = new DbLibrary(temp.resolve("export.db").toString(), DbLibrary.LoadMode.PAGED);
+        library.add(new Game(3, "Tunic", "Xbox", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL));
+        library.add(new Game(1, "Hades", "PC", Game.Status.BEATEN, 5, Game.Ownership.DIGITAL));
+        library.add(new Game(2, "Pokémon \"Scarlet\", DLC", "Switch", Game.Status.PLAYING, 4, Game.Ownership.PHYSICAL));
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    @Test
+    void pipeExport_importsBackUnchanged() throws IOException {
+        Path file = temp.resolve("backup.txt");
+        assertEquals("📤 Exported 3 game(s) to " + file, library.exportTo(file, DbLibrary.ExportFormat.PIPE));
+        assertEquals(List.of("# id|name|platform|status|priority|ownership",
+                "1|Hades|PC|BEATEN|5|DIGITAL",
+                "2|Pokémon \"Scarlet\", DLC|Switch|PLAYING|4|PHYSICAL",
+                "3|Tunic|Xbox|UNPLAYED|3|DIGITAL"), Files.readAllLines(file));
+        assertFalse(library.isFullyLoaded(), "export streams from the database");
+
+        try (DbLibrary copy = new DbLibrary(temp.resolve("copy.db").toString())) {
+            assertTrue(copy.importFromFile(file).contains("Added: 3"));
+            assertEquals(library.query().list().toString(), copy.query().list().toString());
+        }
+    }
+
+    @Test
+    void csvAndJsonLines_escapeNames() throws IOException {
+        Path csv = temp.resolve("games.csv");
+        Path jsonl = temp.resolve("games.jsonl");
+        library.updateField(3, "name", "Tunic\\Fox\tEdition");
+        assertTrue(library.exportTo(csv, DbLibrary.ExportFormat.CSV).startsWith("📤"));
+        assertTrue(library.exportTo(jsonl, DbLibrary.ExportFormat.JSONL).startsWith("📤"));
+
+        assertEquals(List.of("id,name,platform,status,priority,ownership",
+                "1,Hades,PC,BEATEN,5,DIGITAL",
+                "2,\"Pokémon \"\"Scarlet\"\", DLC\",Switch,PLAYING,4,PHYSICAL",
+                "3,Tunic\\Fox\tEdition,Xbox,UNPLAYED,3,DIGITAL"), Files.readAllLines(csv));
+        assertEquals(List.of(
+                "{\"id\":1,\"name\":\"Hades\",\"platform\":\"PC\",\"status\":\"BEATEN\",\"priority\":5,\"ownership\":\"DIGITAL\"}",
+                "{\"id\":2,\"name\":\"Pokémon \\\"Scarlet\\\", DLC\",\"platform\":\"Switch\",\"status\":\"PLAYING\",\"priority\":4,\"ownership\":\"PHYSICAL\"}",
+                "{\"id\":3,\"name\":\"Tunic\\\\Fox\\tEdition\",\"platform\":\"Xbox\",\"status\":\"UNPLAYED\",\"priority\":3,\"ownership\":\"DIGITAL\"}"),
+                Files.readAllLines(jsonl));
+    }
+
+    @Test
+    void filterAndGzip() throws IOException {
+        Path file = temp.resolve("digital.csv.gz");
+        GameQuery digital = library.query().ownership(Game.Ownership.DIGITAL).minPriority(4);
+        assertEquals("📤 Exported 1 game(s) to " + file, library.exportTo(file, DbLibrary.ExportFormat.CSV, digital));
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals("id,name,platform,status,priority,ownership\n1,Hades,PC,BEATEN,5,DIGITAL\n",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertFalse(Files.exists(temp.resolve("digital.csv.gz.tmp")));
+    }
+
+    @Test
+    void writeBehindEdits_areSavedBeforeTheExportReads() throws IOException {
+        library.enableWriteBehind(1_000, 60_000); // nothing is saved unless asked
+        library.add(new Game(4, "Shenmue", "Dreamcast", Game.Status.UNPLAYED, 2, Game.Ownership.PHYSICAL));
+        library.updateField(3, "name", "Tunic DX");
+        Path file = temp.resolve("queued.txt");
+        assertEquals("📤 Exported 2 game(s) to " + file,
+                library.exportTo(file, DbLibrary.ExportFormat.PIPE, library.query().status(Game.Status.UNPLAYED)));
+        assertEquals(List.of("# id|name|platform|status|priority|ownership",
+                "3|Tunic DX|Xbox|UNPLAYED|3|DIGITAL",
+                "4|Shenmue|Dreamcast|UNPLAYED|2|PHYSICAL"), Files.readAllLines(file));
+
+        Path dreamcast = temp.resolve("dreamcast.csv");
+        assertTrue(library.exportTo(dreamcast, DbLibrary.ExportFormat.CSV, library.query().platform("dreamcast")).contains("1 game(s)"));
+        assertTrue(library.add(new Game(5, "Jet Set Radio", "Dreamcast", Game.Status.UNPLAYED, 4,
+                Game.Ownership.PHYSICAL)).startsWith("✅"), "the library is usable again after the export");
+    }
+
+    @Test
+    void pipeSeparatorInName_isReplaced_andReported() throws IOException {
+        library.updateField(1, "name", "Hades | Director's Cut");
+        Path file = temp.resolve("backup.txt");
+        String result = library.exportTo(file, DbLibrary.ExportFormat.PIPE);
+        assertTrue(result.contains("⚠️ 1 row(s)"), result);
+        assertTrue(Files.readAllLines(file).contains("1|Hades   Director's Cut|PC|BEATEN|5|DIGITAL"));
+    }
+
+    @Test
+    void failedExport_leavesTheOldFile() throws Exception {
+        Path file = temp.resolve("backup.txt");
+        Files.writeString(file, "old backup");
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + temp.resolve("export.db"));
+             Statement st = c.createStatement()) {
+            st.executeUpdate("ALTER TABLE games RENAME TO games_gone");
+        }
+        String result = library.exportTo(file, DbLibrary.ExportFormat.PIPE);
+        assertTrue(result.startsWith("❌ Export failed"), result);
+        assertEquals("old backup", Files.readString(file));
+        assertFalse(Files.exists(temp.resolve("backup.txt.tmp")));
+    }
+}
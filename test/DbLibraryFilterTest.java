@@ -0,0 +1,124 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryFilterTest {
+
+    @TempDir Path temp;
+
+    private static final String[] PLATFORMS = {"PC", "PS5", "Switch", "Xbox"};
+
+    private String db;
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("filter.db").toString();
+        library = new DbLibrary(db);
+        Random rnd = new Random(16);
+        List<Game> batch = new ArrayList<>();
+        for (int id = 1; id <= 300; id++) batch.add(randomGame(rnd, id));
+        assertTrue(library.addAll(batch).isCommitted());
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    @Test
+    void filter_matchesAScan_forEveryCombination() {
+        assertAllCombinationsMatch(library);
+    }
+
+    @Test
+    void filter_staysRight_afterAddRemoveAndUpdate() {
+        Random rnd = new Random(160);
+        for (int i = 0; i < 200; i++) {
+            int id = 1 + rnd.nextInt(400);
+            switch (rnd.nextInt(3)) {
+                case 0 -> library.add(randomGame(rnd, id));
+                case 1 -> library.remove(id);
+                default -> library.update(id, new GameChanges()
+                        .platform(PLATFORMS[rnd.nextInt(PLATFORMS.length)])
+                        .status(Game.Status.values()[rnd.nextInt(Game.Status.values().length)]));
+            }
+        }
+        assertAllCombinationsMatch(library);
+        assertTrue(library.checkStatsConsistency().startsWith("✅"));
+    }
+
+    @Test
+    void filter_inPagedMode_usesSqlAndGivesTheSameGames() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            List<Game> eager = byId(library.filter(Game.Status.UNPLAYED, Game.Ownership.PHYSICAL, "PS5"));
+            List<Game> sql = paged.filter(Game.Status.UNPLAYED, Game.Ownership.PHYSICAL, "PS5");
+            assertFalse(paged.isFullyLoaded()); // answered without loading the table
+            assertEquals(ids(eager), ids(sql));
+            assertEquals(eager.size(), paged.countMatching(Game.Status.UNPLAYED, Game.Ownership.PHYSICAL, "PS5"));
+            assertEquals(library.count(), paged.countMatching(null, null, null));
+        }
+    }
+
+    @Test
+    void unknownPlatform_matchesNothing() {
+        assertTrue(library.filter(null, null, "Dreamcast").isEmpty());
+        assertEquals(0, library.countMatching(Game.Status.PLAYING, null, "Dreamcast"));
+    }
+
+    @Test
+    void ensureTable_createsTheFilterIndexes() throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+             ResultSet rs = c.createStatement().executeQuery(
+                     "SELECT name FROM sqlite_master WHERE type='index' AND tbl_name='games'")) {
+            List<String> names = new ArrayList<>();
+            while (rs.next()) names.add(rs.getString(1));
+            assertTrue(names.containsAll(List.of("idx_games_status", "idx_games_ownership", "idx_games_platform")), names.toString());
+        }
+    }
+
+    //Helpers
+
+    private static void assertAllCombinationsMatch(DbLibrary lib) {
+        List<Game> all = lib.listAll();
+        List<Game.Status> statuses = new ArrayList<>(List.of(Game.Status.values()));
+        statuses.add(null);
+        List<Game.Ownership> owners = new ArrayList<>(List.of(Game.Ownership.values()));
+        owners.add(null);
+        List<String> platforms = new ArrayList<>(List.of(PLATFORMS));
+        platforms.add(null);
+        for (Game.Status s : statuses) for (Game.Ownership o : owners) for (String p : platforms) {
+            List<Game> expected = all.stream()
+                    .filter(g -> s == null || g.getStatus() == s)
+                    .filter(g -> o == null || g.getOwnership() == o)
+                    .filter(g -> p == null || g.getPlatform().equals(p))
+                    .toList();
+            String what = s + "/" + o + "/" + p;
+            assertEquals(ids(expected), ids(lib.filter(s, o, p)), what); // list order both ways
+            assertEquals(expected.size(), lib.countMatching(s, o, p), what);
+        }
+    }
+
+    private static Game randomGame(Random rnd, int id) {
+        return new Game(id, "Game " + id, PLATFORMS[rnd.nextInt(PLATFORMS.length)],
+                Game.Status.values()[rnd.nextInt(Game.Status.values().length)], 1 + rnd.nextInt(5),
+                Game.Ownership.values()[rnd.nextInt(Game.Ownership.values().length)]);
+    }
+
+    private static List<Game> byId(List<Game> games) {
+        List<Game> sorted = new ArrayList<>(games);
+        sorted.sort(Comparator.comparingInt(Game::getId));
+        return sorted;
+    }
+
+    private static List<Integer> ids(List<Game> games) {
+        return games.stream().map(Game::getId).toList();
+    }
+}
@@ -0,0 +1,124 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryImportTest {
+
+    @TempDir Path temp;
+
+    private Path db;
+    private Path data;
+
+    @BeforeEach
+    void setup() throws IOException {
+        db = temp.resolve("import.db");
+        data = temp.resolve("games.txt");
+        Files.writeString(data, String.join("\n",
+                "# comment lines and blanks are skipped",
+                "1|Hades II|PC|UNPLAYED|5|DIGITAL",
+                "",
+                "2|Spider-Man 2|PS5|PLAYING|4|PHYSICAL",
+                "3|Pentiment|Xbox|BEATEN|3|DIGITAL",
+                "1|Hades II DUP (other chunk)|PC|UNPLAYED|5|DIGITAL",
+                "4|Final Fantasy VII Rebirth|PS5|UNPLAYED|5|DIGITAL",
+                "4|Final Fantasy VII Rebirth DUP (same chunk)|PS5|UNPLAYED|5|DIGITAL",
+                "5|Hollow Knight: Silksong|PC|UNPLAYED|5|DIGITAL",
+                "bad|line|oops"
+        ));
+    }
+
+    @Test
+    void chunkedImport_addsEveryUniqueRow() {
+        try (DbLibrary library = new DbLibrary(db.toString())) {
+            String message = library.importFromFile(data, 2);
+            assertTrue(message.contains("Added: 5"), message);
+            assertTrue(message.contains("Skipped: 3"), message);
+            assertEquals(5, library.listAll().size());
+        }
+        try (DbLibrary reopened = new DbLibrary(db.toString())) {
+            assertEquals(5, reopened.listAll().size());
+        }
+    }
+
+    @Test
+    void failingChunk_isRolledBack_andMemoryMatchesDb() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db.toString())) {
+            // make the DB refuse id 4 so the second chunk (ids 3 and 4) fails
+            try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+                 Statement st = c.createStatement()) {
+                st.executeUpdate("CREATE TRIGGER no_four BEFORE INSERT ON games WHEN NEW.id = 4 "
+                        + "BEGIN SELECT RAISE(ABORT, 'id 4 refused'); END");
+            }
+
+            String message = library.importFromFile(data, 2);
+            assertTrue(message.contains("Error importing"), message);
+            assertEquals(2, library.listAll().size(), "only the first chunk (ids 1, 2) was committed");
+            assertTrue(library.findById(3).isEmpty(), "rolled back row must not be in memory");
+        }
+        try (DbLibrary reopened = new DbLibrary(db.toString())) {
+            assertEquals(2, reopened.listAll().size());
+        }
+    }
+    /** a file big enough to report progress several times */
+    private Path bigFile(int rows) throws IOException {
+        Path big = temp.resolve("big.txt");
+        StringBuilder sb = new StringBuilder();
+        for (int id = 1; id <= rows; id++) sb.append(id).append("|Game ").append(id).append("|PC|UNPLAYED|3|DIGITAL\n");
+        Files.writeString(big, sb);
+        return big;
+    }
+
+    @Test
+    void progress_isReportedWhileImporting() throws IOException {
+        Path big = bigFile(3 * DbLibrary.PROGRESS_EVERY + 10);
+        List<Long> seen = new ArrayList<>();
+        try (DbLibrary library = new DbLibrary(db.toString())) {
+            String message = library.importFromFile(big, 1_000, seen::add);
+            assertTrue(message.startsWith("📥"), message);
+        }
+        assertEquals(List.of((long) DbLibrary.PROGRESS_EVERY, 2L * DbLibrary.PROGRESS_EVERY,
+                3L * DbLibrary.PROGRESS_EVERY, 3L * DbLibrary.PROGRESS_EVERY + 10), seen);
+    }
+
+    @Test
+    void cancel_rollsBackOpenChunk_andKeepsMemoryInSync() throws IOException {
+        Path big = bigFile(5 * DbLibrary.PROGRESS_EVERY);
+        DbLibrary.ImportProgress cancelAtFirstReport = new DbLibrary.ImportProgress() {
+            boolean asked;
+            @Override public void rowsRead(long rows) { asked = true; }
+            @Override public boolean isCancelled() { return asked; }
+        };
+        try (DbLibrary library = new DbLibrary(db.toString())) {
+            String message = library.importFromFile(big, 1_000, cancelAtFirstReport);
+            assertTrue(message.startsWith("⏹"), message);
+            // 4096 rows read: chunks of 1000 committed 4 times, the 96 rows in the open chunk rolled back
+            assertEquals(4_000, library.listAll().size());
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+        try (DbLibrary reopened = new DbLibrary(db.toString())) {
+            assertEquals(4_000, reopened.listAll().size());
+        }
+    }
+
+    @Test
+    void cancelledMirror_deletesNothing() throws IOException {
+        try (DbLibrary library = new DbLibrary(db.toString())) {
+            library.add(new Game(999_999, "Not in file", "PC", Game.Status.BEATEN, 1, Game.Ownership.DIGITAL));
+            Path big = bigFile(DbLibrary.PROGRESS_EVERY - 1); // no report until the end
+            DbLibrary.ImportProgress cancelAtEnd = new DbLibrary.ImportProgress() {
+                @Override public void rowsRead(long rows) { }
+                @Override public boolean isCancelled() { return true; }
+            };
+            String message = library.mergeFromFile(big, true, 100_000, cancelAtEnd);
+            assertTrue(message.startsWith("⏹"), message);
+            assertTrue(library.findById(999_999).isPresent());
+            assertEquals(1, library.listAll().size());
+        }
+    }
+} // End DbLibrary Import Test
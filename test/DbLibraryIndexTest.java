@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryIndexTest {
+
+    @TempDir Path temp;
+
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() {
+        library = new DbLibrary(temp.resolve("index.db").toString());
+        for (int id = 1; id <= 50; id++) {
+            library.add(new Game(id, "Game " + id, "PC", Game.Status.UNPLAYED, 1 + id % 5, Game.Ownership.DIGITAL));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    @Test
+    void findById_afterRemoves_stillFindsEveryOtherGame() {
+        // remove from the front, middle and the end
+        assertTrue(library.remove(1).contains("Remove id 1"));
+        assertTrue(library.remove(25).contains("Remove id 25"));
+        assertTrue(library.remove(50).contains("Remove id 50"));
+
+        assertEquals(47, library.listAll().size());
+        for (int id = 1; id <= 50; id++) {
+            boolean gone = id == 1 || id == 25 || id == 50;
+            assertEquals(!gone, library.findById(id).isPresent(), "id " + id);
+        }
+        for (Game g : library.listAll()) {
+            assertSame(g, library.findById(g.getId()).orElseThrow());
+        }
+    }
+
+    @Test
+    void removes_keepListOrder_andEveryIndexInStep() {
+        for (int id = 51; id <= 300; id++) { // a few BitSet words, so gaps cross word edges
+            library.add(new Game(id, "Game " + id, id % 3 == 0 ? "PS5" : "PC", Game.Status.values()[id % 3],
+                    1 + id % 5, Game.Ownership.values()[id % 2]));
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int id = 1; id <= 300; id++) expected.add(id);
+        removeRandomly(library, expected, new Random(7));
+        try (DbLibrary compact = new DbLibrary(temp.resolve("index.db").toString(), DbLibrary.LoadMode.COMPACT)) {
+            removeRandomly(compact, expected, new Random(8));
+        }
+    }
+
+    /** removes (one at a time or in batches) and checks order, indexes and positions after every round */
+    private static void removeRandomly(DbLibrary lib, List<Integer> expected, Random random) {
+        for (int round = 0; round < 10; round++) {
+            int[] batch = new int[1 + random.nextInt(12)];
+            for (int i = 0; i < batch.length; i++) batch[i] = expected.get(random.nextInt(expected.size()));
+            if (round % 2 == 0) lib.remove(batch[0]);
+            else lib.removeAll(batch);
+            for (int id : round % 2 == 0 ? new int[] {batch[0]} : batch) expected.remove(Integer.valueOf(id));
+
+            int moved = expected.get(random.nextInt(expected.size())); // its stored position must be right
+            assertTrue(lib.updateField(moved, "priority", String.valueOf(1 + round % 5)).contains("Updated"));
+            assertEquals(expected, lib.listAll().stream().map(Game::getId).toList(), "round " + round);
+            assertTrue(lib.checkStatsConsistency().startsWith("✅"), lib.checkStatsConsistency());
+            for (int id : expected) assertEquals(id, lib.findById(id).orElseThrow().getId());
+        }
+    }
+
+    @Test
+    void index_isRebuiltFromDb_onReconnect() {
+        library.remove(10);
+        try (DbLibrary reopened = new DbLibrary(temp.resolve("index.db").toString())) {
+            assertEquals(49, reopened.listAll().size());
+            assertTrue(reopened.findById(10).isEmpty());
+            assertEquals("Game 11", reopened.findById(11).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    void add_duplicateId_isRejected() {
+        String message = library.add(new Game(7, "Dup", "PC", Game.Status.BEATEN, 3, Game.Ownership.PHYSICAL));
+        assertTrue(message.startsWith("❌"));
+        assertEquals(50, library.listAll().size());
+    }
+
+    @Test
+    void close_thenUse_reopensConnection() {
+        library.close();
+        library.close(); // second close is harmless
+        assertTrue(library.updateField(3, "name", "Renamed").contains("Updated"));
+        try (DbLibrary reopened = new DbLibrary(temp.resolve("index.db").toString())) {
+            assertEquals("Renamed", reopened.findById(3).orElseThrow().getName());
+        }
+    }
+} // End DbLibrary Index Test
@@ -0,0 +1,73 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryMergeTest {
+
+    @TempDir Path temp;
+
+    private DbLibrary library;
+    private Path master;
+
+    @BeforeEach
+    void setup() throws IOException {
+        library = new DbLibrary(temp.resolve("merge.db").toString());
+        library.add(new Game(1, "Hades II", "PC", Game.Status.UNPLAYED, 5, Game.Ownership.DIGITAL));
+        library.add(new Game(2, "Spider-Man 2", "PS5", Game.Status.PLAYING, 4, Game.Ownership.PHYSICAL));
+        library.add(new Game(3, "Pentiment", "Xbox", Game.Status.BEATEN, 3, Game.Ownership.DIGITAL));
+
+        master = temp.resolve("master.txt");
+        Files.writeString(master, String.join("\n",
+                "1|Hades II|PC|UNPLAYED|5|DIGITAL",        // unchanged
+                "2|Spider-Man 2|PS5|BEATEN|2|PHYSICAL",    // changed
+                "4|Silksong|Switch|UNPLAYED|5|DIGITAL",    // new
+                "4|Silksong again|Switch|UNPLAYED|5|DIGITAL" // repeated id -> skipped
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    @Test
+    void merge_reportsEachKindOfRow() {
+        String message = library.mergeFromFile(master, false);
+        assertTrue(message.contains("Added: 1"), message);
+        assertTrue(message.contains("Updated: 1"), message);
+        assertTrue(message.contains("Unchanged: 1"), message);
+        assertTrue(message.contains("Deleted: 0"), message);
+        assertTrue(message.contains("Skipped: 1"), message);
+
+        Game spidey = library.findById(2).orElseThrow();
+        assertEquals(Game.Status.BEATEN, spidey.getStatus());
+        assertEquals(2, spidey.getPriority());
+        assertTrue(library.findById(3).isPresent(), "without mirror, missing rows stay");
+        assertEquals("Silksong", library.findById(4).orElseThrow().getName());
+    }
+
+    @Test
+    void mirror_deletesRowsMissingFromFile_inDbToo() {
+        String message = library.mergeFromFile(master, true, 1);
+        assertTrue(message.contains("Deleted: 1"), message);
+        assertTrue(library.findById(3).isEmpty());
+
+        try (DbLibrary reopened = new DbLibrary(temp.resolve("merge.db").toString())) {
+            assertEquals(3, reopened.listAll().size());
+            assertTrue(reopened.findById(3).isEmpty());
+            assertEquals(Game.Status.BEATEN, reopened.findById(2).orElseThrow().getStatus());
+        }
+    }
+
+    @Test
+    void mirror_withNoValidRows_deletesNothing() throws IOException {
+        Path junk = temp.resolve("junk.txt");
+        Files.writeString(junk, "# nothing here\nbad|line\n");
+        String message = library.mergeFromFile(junk, true);
+        assertTrue(message.startsWith("❌"), message);
+        assertEquals(3, library.listAll().size());
+    }
+} // End DbLibrary Merge Test
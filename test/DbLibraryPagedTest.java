@@ -0,0 +1,94 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryPagedTest {
+
+    @TempDir Path temp;
+
+    private String db;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("paged.db").toString();
+        try (DbLibrary seed = new DbLibrary(db)) {
+            Random random = new Random(7);
+            Game.Status[] statuses = Game.Status.values();
+            for (int id = 1; id <= 250; id++) {
+                seed.add(new Game(id, "Game " + id, id % 2 == 0 ? "PC" : "Switch",
+                        statuses[random.nextInt(statuses.length)], 1 + random.nextInt(5), Game.Ownership.DIGITAL));
+            }
+        }
+    }
+
+    @Test
+    void pagedOpen_doesNotLoadRows() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertFalse(paged.isFullyLoaded());
+            assertEquals(250, paged.count());
+            assertEquals("Game 42", paged.findById(42).orElseThrow().getName());
+            assertTrue(paged.findById(999).isEmpty());
+            assertFalse(paged.isFullyLoaded());
+        }
+    }
+
+    @Test
+    void listPage_walksEveryRowInIdOrder() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            List<Integer> ids = new ArrayList<>();
+            int after = 0;
+            List<Game> page;
+            while (!(page = paged.listPage(after, 64)).isEmpty()) {
+                assertTrue(page.size() <= 64);
+                for (Game g : page) ids.add(g.getId());
+                after = page.get(page.size() - 1).getId();
+            }
+            assertEquals(250, ids.size());
+            for (int i = 0; i < ids.size(); i++) assertEquals(i + 1, ids.get(i));
+            assertFalse(paged.isFullyLoaded());
+        }
+    }
+
+    @Test
+    void addRemoveUpdate_workWithoutLoading() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertTrue(paged.add(new Game(500, "New", "PC", Game.Status.PLAYING, 2, Game.Ownership.PHYSICAL)).startsWith("✅"));
+            assertTrue(paged.add(new Game(500, "Dup", "PC", Game.Status.PLAYING, 2, Game.Ownership.PHYSICAL)).startsWith("❌"));
+            assertTrue(paged.updateField(500, "name", "Renamed").startsWith("✅"));
+            assertFalse(paged.remove(3).startsWith("No game"));
+            assertTrue(paged.remove(3).startsWith("No game"));
+            assertFalse(paged.isFullyLoaded());
+        }
+        try (DbLibrary eager = new DbLibrary(db)) {
+            assertEquals("Renamed", eager.findById(500).orElseThrow().getName());
+            assertTrue(eager.findById(3).isEmpty());
+            assertEquals(250, eager.listAll().size());
+        }
+    }
+
+    @Test
+    void sqlReport_matchesEagerReport() {
+        String expected;
+        try (DbLibrary eager = new DbLibrary(db)) {
+            expected = eager.backlogReport(15);
+        }
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertEquals(expected, paged.backlogReport(15));
+            assertFalse(paged.isFullyLoaded());
+        }
+    }
+
+    @Test
+    void listAll_loadsOnFirstUse() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertEquals(250, paged.listAll().size());
+            assertTrue(paged.isFullyLoaded());
+            assertTrue(paged.checkStatsConsistency().startsWith("✅"));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryPlatformTest {
+
+    @TempDir Path temp;
+
+    private String db;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("platforms.db").toString();
+    }
+
+    @Test
+    void spellings_foldToOnePlatform_withOneSharedString() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db)) {
+            library.add(new Game(1, "Hades", "PC", Game.Status.BEATEN, 5, Game.Ownership.DIGITAL));
+            Game second = new Game(2, "Celeste", " pc ", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL);
+            library.add(second);
+            library.add(new Game(3, "Astro Bot", "PS5", Game.Status.PLAYING, 4, Game.Ownership.PHYSICAL));
+
+            assertEquals(" pc ", second.getPlatform()); // the caller's Game is left as it was
+            assertEquals("PC", library.findById(2).orElseThrow().getPlatform()); // first spelling wins
+            assertSame(library.findById(1).orElseThrow().getPlatform(), library.findById(2).orElseThrow().getPlatform());
+            assertEquals(2, library.filter(null, null, "pC").size());
+            assertEquals(2, library.query().platform("pc").count());
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+        assertEquals(List.of("PC|pc", "PS5|ps5"), rows("SELECT name || '|' || folded FROM platforms ORDER BY id"));
+        assertEquals(List.of("1|PC", "2|PC", "3|PS5"), rows("SELECT id || '|' || platform FROM game_rows ORDER BY id"));
+
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertEquals(2, paged.countMatching(null, null, "pc"));
+            assertTrue(paged.filter(null, null, "Dreamcast").isEmpty());
+            List<Game> page = paged.listPage(0, 10);
+            assertSame(page.get(0).getPlatform(), page.get(1).getPlatform()); // read back through the dictionary
+        }
+    }
+
+    @Test
+    void import_andUpdates_useTheCanonicalSpelling() throws IOException, SQLException {
+        Path data = temp.resolve("games.txt");
+        Files.writeString(data, String.join("\n",
+                "1|Hades II|PC|UNPLAYED|5|DIGITAL",
+                "2|Balatro|pc|PLAYING|4|DIGITAL",
+                "3|Tunic|Xbox  Series X|UNPLAYED|3|DIGITAL",
+                "4|Halo|xbox series x|BEATEN|2|PHYSICAL"));
+        try (DbLibrary library = new DbLibrary(db)) {
+            String message = library.importFromFile(data);
+            assertTrue(message.startsWith("📥") && message.contains("Added: 4"), message);
+            assertEquals("PC", library.findById(2).orElseThrow().getPlatform());
+            assertEquals("Xbox Series X", library.findById(4).orElseThrow().getPlatform());
+
+            assertTrue(library.updateField(1, "platform", "XBOX SERIES X").startsWith("✅"));
+            assertEquals(3, library.countMatching(null, null, "xbox series x"));
+            assertTrue(library.update(2, new GameChanges().platform("Switch")).startsWith("✅"));
+            assertEquals("Switch", library.findById(2).orElseThrow().getPlatform());
+        }
+        assertEquals(List.of("PC", "Xbox Series X", "Switch"), rows("SELECT name FROM platforms ORDER BY id"));
+    }
+
+    @Test
+    void addAll_rolledBack_leavesNoPlatformRows_andInputsAlone() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db)) {
+            library.add(new Game(1, "Hades", "PC", Game.Status.BEATEN, 5, Game.Ownership.DIGITAL));
+        }
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db); Statement st = c.createStatement()) {
+            st.executeUpdate("CREATE TRIGGER no_id_99 BEFORE INSERT ON games WHEN NEW.id = 99"
+                    + " BEGIN SELECT RAISE(ABORT, 'id 99 refused'); END");
+        }
+
+        try (DbLibrary library = new DbLibrary(db)) {
+            Game pc = new Game(2, "Celeste", "pc", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL);
+            Game dreamcast = new Game(3, "Shenmue", "Dreamcast", Game.Status.UNPLAYED, 2, Game.Ownership.PHYSICAL);
+            Game refused = new Game(99, "Refused", "Saturn", Game.Status.UNPLAYED, 1, Game.Ownership.PHYSICAL);
+            BulkResult result = library.addAll(List.of(pc, dreamcast, refused));
+
+            assertFalse(result.isCommitted());
+            assertEquals(1, library.count());
+            assertEquals("pc", pc.getPlatform());
+            assertTrue(library.filter(null, null, "Dreamcast").isEmpty());
+
+            // the dictionary forgot the rolled-back platforms, so a later add saves them again
+            assertTrue(library.add(dreamcast).startsWith("✅"));
+            assertEquals("Dreamcast", library.findById(3).orElseThrow().getPlatform());
+            assertTrue(library.addAll(List.of(pc)).isCommitted());
+            assertEquals("pc", pc.getPlatform());
+            assertEquals("PC", library.findById(2).orElseThrow().getPlatform());
+        }
+        assertEquals(List.of("PC", "Dreamcast"), rows("SELECT name FROM platforms ORDER BY id"));
+    }
+
+    @Test
+    void oldDatabase_isConvertedOnce() throws SQLException {
+        // the schema before the platforms table (wider CHECKs, like checkpoint_SAMPLE.db)
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db); Statement st = c.createStatement()) {
+            st.executeUpdate("CREATE TABLE games (id INTEGER PRIMARY KEY AUTOINCREMENT, name TEXT NOT NULL,"
+                    + " platform TEXT NOT NULL, status TEXT NOT NULL, priority INTEGER NOT NULL, ownership TEXT NOT NULL)");
+            st.executeUpdate("INSERT INTO games VALUES (1,'Hades','PC','BEATEN',5,'DIGITAL'),"
+                    + " (2,'Celeste','pc','ABANDONED',3,'GAME_PASS'), (3,'Astro Bot','PS5','PLAYING',4,'PHYSICAL')");
+        }
+
+        try (DbLibrary library = new DbLibrary(db)) {
+            assertEquals(3, library.count());
+            assertEquals(Game.Status.UNPLAYED, library.findById(2).orElseThrow().getStatus()); // same as reading it before
+            assertEquals(Game.Ownership.DIGITAL, library.findById(2).orElseThrow().getOwnership());
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+        assertEquals(List.of("1|Hades|PC", "2|Celeste|PC", "3|Astro Bot|PS5"),
+                rows("SELECT id || '|' || name || '|' || platform FROM game_rows ORDER BY id"));
+        assertEquals(List.of("PC", "PS5"), rows("SELECT name FROM platforms ORDER BY id"));
+        assertTrue(rows("SELECT name FROM pragma_table_info('games') WHERE name = 'platform'").isEmpty());
+
+        try (DbLibrary again = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) { // nothing left to convert
+            assertEquals(3, again.count());
+            assertEquals(List.of(2), again.searchByName("celeste", 5).stream().map(Game::getId).toList());
+        }
+    }
+
+    private List<String> rows(String sql) throws SQLException {
+        List<String> out = new ArrayList<>();
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+             ResultSet rs = c.createStatement().executeQuery(sql)) {
+            while (rs.next()) out.add(rs.getString(1));
+        }
+        return out;
+    }
+}
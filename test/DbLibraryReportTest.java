@@ -0,0 +1,145 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryReportTest {
+
+    @TempDir Path temp;
+
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() {
+        library = new DbLibrary(temp.resolve("report.db").toString());
+        Random random = new Random(42);
+        Game.Status[] statuses = Game.Status.values();
+        for (int id = 1; id <= 300; id++) { // lots of equal scores, so tie order matters
+            library.add(new Game(id, "Game " + id, "PC",
+                    statuses[random.nextInt(statuses.length)], 1 + random.nextInt(5), Game.Ownership.DIGITAL));
+        }
+        library.remove(17); // from the middle: later games move up one
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    /** the old report: full stable sort + three counting passes */
+    private String sortEverythingReport(int topNumber) {
+        List<Game> games = library.listAll();
+        long unplayed = games.stream().filter(g -> g.getStatus() == Game.Status.UNPLAYED).count();
+        long playing = games.stream().filter(g -> g.getStatus() == Game.Status.PLAYING).count();
+        long beaten = games.stream().filter(g -> g.getStatus() == Game.Status.BEATEN).count();
+        List<Game> sorted = new ArrayList<>(games);
+        sorted.sort((a, b) -> Integer.compare(library.scoreFor(b), library.scoreFor(a)));
+        StringBuilder sb = new StringBuilder();
+        sb.append("📊 Backlog Health\n")
+                .append("Total: ").append(games.size())
+                .append(" | Unplayed: ").append(unplayed)
+                .append(" | Playing: ").append(playing)
+                .append(" | Beaten: ").append(beaten).append("\n\n")
+                .append("🔥 Top ").append(Math.min(topNumber, sorted.size())).append(" To Tackle Next:\n");
+        for (int i = 0; i < Math.min(topNumber, sorted.size()); i++) {
+            Game g = sorted.get(i);
+            sb.append(String.format("%d) [%d] %s (score=%d)\n", i + 1, g.getId(), g.getName(), library.scoreFor(g)));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void topN_matchesFullSort_exactly() {
+        for (int n = 0; n <= 10; n++) {
+            assertEquals(sortEverythingReport(n), library.backlogReport(n), "top " + n);
+        }
+        assertEquals(sortEverythingReport(500), library.backlogReport(500));
+    }
+
+    @Test
+    void remove_keepsListOrder_soTiesRankTheSameInEveryMode() {
+        for (DbLibrary.LoadMode mode : DbLibrary.LoadMode.values()) {
+            String db = temp.resolve("ties-" + mode + ".db").toString();
+            try (DbLibrary seed = new DbLibrary(db)) {
+                for (int id = 1; id <= 5; id++) {
+                    seed.add(new Game(id, "Tie " + id, "PC", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL));
+                }
+            }
+            try (DbLibrary tied = new DbLibrary(db, mode)) {
+                tied.listAll(); // PAGED: rows in memory, so remove goes through the in-memory path too
+                tied.remove(1);
+                assertEquals(List.of(2, 3, 4, 5), ids(tied.listAll()), mode.name());
+                assertEquals(List.of(2, 3, 4, 5), reportIds(tied.backlogReport(10)), mode.name());
+                tied.removeAll(new int[] {4});
+                assertEquals(List.of(2, 3, 5), ids(tied.listAll()), mode.name());
+                assertEquals(List.of(2, 3, 5), reportIds(tied.backlogReport(10)), mode.name());
+                assertTrue(tied.checkStatsConsistency().startsWith("✅"), mode.name());
+            }
+        }
+        try (DbLibrary paged = new DbLibrary(temp.resolve("ties-PAGED.db").toString(), DbLibrary.LoadMode.PAGED)) {
+            assertEquals(List.of(2, 3, 5), reportIds(paged.backlogReport(10)), "report from SQL");
+        }
+    }
+
+    @Test
+    void rankedBacklog_streamsEveryGame_inReportOrder() throws IOException {
+        StringBuilder out = new StringBuilder();
+        assertEquals(299, library.writeRankedBacklog(out));
+
+        String full = sortEverythingReport(299);
+        String ranked = full.substring(full.indexOf("1) ["));
+        assertEquals(ranked, out.toString());
+    }
+
+    @Test
+    void stats_stayConsistent_afterMixedWrites() throws IOException {
+        Path data = temp.resolve("more.txt");
+        java.nio.file.Files.writeString(data, "400|New One|PC|UNPLAYED|5|DIGITAL\n5|Changed|PC|BEATEN|1|DIGITAL\n");
+        library.updateField(3, "status", "BEATEN");
+        library.updateField(4, "priority", "5");
+        library.remove(1);
+        library.mergeFromFile(data, false);
+        library.add(new Game(401, "Another", "PS5", Game.Status.PLAYING, 2, Game.Ownership.PHYSICAL));
+
+        assertTrue(library.checkStatsConsistency().startsWith("✅"), library.checkStatsConsistency());
+        assertEquals(sortEverythingReport(10), library.backlogReport(10));
+    }
+
+    @Test
+    void failedDbWrite_leavesGameAndStatsUnchanged() throws Exception {
+        try (java.sql.Connection c = java.sql.DriverManager.getConnection("jdbc:sqlite:" + temp.resolve("report.db"));
+             java.sql.Statement st = c.createStatement()) {
+            st.executeUpdate("CREATE TRIGGER lock_five BEFORE UPDATE ON games WHEN OLD.id = 5 "
+                    + "BEGIN SELECT RAISE(ABORT, 'row 5 is locked'); END");
+        }
+        Game five = library.findById(5).orElseThrow();
+        Game.Status before = five.getStatus();
+        String reportBefore = library.backlogReport(10);
+
+        Game.Status other = before == Game.Status.BEATEN ? Game.Status.UNPLAYED : Game.Status.BEATEN;
+        String message = library.updateField(5, "status", other.name());
+        assertTrue(message.startsWith("❌"), message);
+        assertEquals(before, five.getStatus());
+        assertEquals(reportBefore, library.backlogReport(10));
+        assertTrue(library.checkStatsConsistency().startsWith("✅"));
+    }
+
+    private static List<Integer> ids(List<Game> games) {
+        return games.stream().map(Game::getId).toList();
+    }
+
+    /** the [id] of every ranked line, in report order */
+    private static List<Integer> reportIds(String report) {
+        List<Integer> ids = new ArrayList<>();
+        Matcher m = Pattern.compile("\\) \\[(\\d+)\\]").matcher(report);
+        while (m.find()) ids.add(Integer.parseInt(m.group(1)));
+        return ids;
+    }
+} // End DbLibrary Report Test
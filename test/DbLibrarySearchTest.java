@@ -0,0 +1,161 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibrarySearchTest {
+
+    @TempDir Path temp;
+
+    private String db;
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("search.db").toString();
+        library = new DbLibrary(db);
+        library.add(new Game(1, "Hollow Knight", "PC", Game.Status.BEATEN, 4, Game.Ownership.DIGITAL));
+        library.add(new Game(2, "Hollow Knight: Silksong", "Switch", Game.Status.UNPLAYED, 5, Game.Ownership.DIGITAL));
+        library.add(new Game(3, "Pokémon Scarlet", "Switch", Game.Status.PLAYING, 3, Game.Ownership.PHYSICAL));
+        library.add(new Game(4, "Knights of the Old Republic", "PC", Game.Status.UNPLAYED, 2, Game.Ownership.DIGITAL));
+        library.add(new Game(5, "Fizzy Zzz", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    @Test
+    void search_ranksExactThenPrefixThenWordThenAnywhere() {
+        library.add(new Game(6, "Knight", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+        library.add(new Game(7, "Midknight Tale", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+        assertEquals(List.of(6, 4, 1, 2, 7), ids(library.searchByName("knight", 10)));
+        assertEquals(List.of(6, 4), ids(library.searchByName("KNIGHT", 2))); // limit keeps the best
+    }
+
+    @Test
+    void search_ignoresCaseAccentsAndPunctuation() {
+        assertEquals(List.of(3), ids(library.searchByName("pokemon", 10)));
+        assertEquals(List.of(3), ids(library.searchByName("POKÉMON scar", 10)));
+        assertEquals(List.of(2), ids(library.searchByName("knight silk", 10))); // ':' is just a gap
+        assertEquals(List.of(2), ids(library.searchByName("lksong", 10)));      // middle of a word
+    }
+
+    @Test
+    void shortQuery_matchesWordStartsOnly() {
+        assertEquals(List.of(5), ids(library.searchByName("zz", 10))); // "Zzz", not "Fizzy"
+        assertTrue(library.searchByName("iz", 10).isEmpty());
+        assertTrue(library.searchByName("  ", 10).isEmpty());
+    }
+
+    @Test
+    void search_matchesAFullScanRanking_atEveryLimit() {
+        String[] words = {"Zelda", "Zel", "Azelda", "The", "Legend", "of", "Ze", "Zero", "Elda", "Zeldas"};
+        List<Game> all = new ArrayList<>(library.listAll());
+        for (int id = 10; id < 400; id++) {
+            StringBuilder name = new StringBuilder();
+            for (int w = 0, n = 1 + id % 4; w < n; w++) name.append(w > 0 ? " " : "").append(words[(id * 7 + w * 3) % words.length]);
+            Game g = new Game(id, name.toString(), "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL);
+            library.add(g);
+            all.add(g);
+        }
+        for (String query : new String[]{"zelda", "ze", "elda", "the legend", "of zel", "z", "zeldas zero"}) {
+            for (int limit : new int[]{1, 3, 10, 40, 1_000}) {
+                assertEquals(fullScan(all, query, limit), ids(library.searchByName(query, limit)), query + " / " + limit);
+            }
+        }
+    }
+
+    @Test
+    void index_followsAddRemoveAndRename() {
+        assertEquals(1, library.searchByName("silksong", 10).size()); // builds the index
+        library.update(2, new GameChanges().name("Team Cherry Thing"));
+        assertTrue(library.searchByName("silksong", 10).isEmpty());
+        assertEquals(List.of(2), ids(library.searchByName("cherry", 10)));
+
+        library.update(2, new GameChanges().id(20));
+        assertEquals(List.of(20), ids(library.searchByName("cherry", 10)));
+
+        library.remove(20);
+        library.add(new Game(8, "Silksong DLC", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+        assertTrue(library.searchByName("cherry", 10).isEmpty());
+        assertEquals(List.of(8), ids(library.searchByName("silksong", 10)));
+        assertTrue(library.checkStatsConsistency().startsWith("✅"), library.checkStatsConsistency());
+    }
+
+    @Test
+    void pagedSearch_usesFts_keptInStepByTriggers() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertEquals(List.of(3), ids(paged.searchByName("pokemon", 10)));
+            assertEquals(List.of(2), ids(paged.searchByName("hollow silk", 10)));
+            assertFalse(paged.isFullyLoaded());
+
+            paged.update(3, new GameChanges().name("Pokémon Violet"));
+            paged.remove(2);
+            paged.add(new Game(9, "Silksong Deluxe", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+            assertEquals(List.of(3), ids(paged.searchByName("violet", 10)));
+            assertTrue(paged.searchByName("scarlet", 10).isEmpty());
+            assertEquals(List.of(9), ids(paged.searchByName("silk", 10)));
+        }
+    }
+
+    @Test
+    void existingDatabase_getsItsSearchTableFilled() throws SQLException {
+        library.close();
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db); Statement st = c.createStatement()) {
+            // back to a database from before search existed
+            for (String t : new String[]{"games_fts_insert", "games_fts_delete", "games_fts_update"}) {
+                st.executeUpdate("DROP TRIGGER " + t);
+            }
+            st.executeUpdate("DROP TABLE games_fts");
+            st.executeUpdate("INSERT INTO games(id,name,platform_id,status,priority,ownership)"
+                    + " VALUES (50,'Outer Wilds',(SELECT id FROM platforms WHERE folded='pc'),'UNPLAYED',5,'DIGITAL')");
+        }
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertEquals(List.of(50), ids(paged.searchByName("outer", 10)));
+            assertEquals(List.of(3), ids(paged.searchByName("scarlet", 10)));
+        }
+    }
+
+    @Test
+    void likeFallback_matchesPercentAndUnderscoreLiterally() throws SQLException {
+        assertEquals("%100\\%\\_done\\\\x%", DbLibrary.likePattern(" 100%_done\\x "));
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite::memory:"); Statement st = c.createStatement()) {
+            st.executeUpdate("CREATE TABLE t(name TEXT)");
+            st.executeUpdate("INSERT INTO t VALUES ('100% Orange Juice'), ('1000 Orange'), ('A_B'), ('AxB')");
+            for (String[] q : new String[][]{{"100%", "100% Orange Juice"}, {"a_b", "A_B"}}) {
+                try (PreparedStatement ps = c.prepareStatement("SELECT name FROM t WHERE name LIKE ? ESCAPE '\\'")) {
+                    ps.setString(1, DbLibrary.likePattern(q[0]));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        assertTrue(rs.next());
+                        assertEquals(q[1], rs.getString(1));
+                        assertFalse(rs.next(), q[0] + " matched more than the literal text");
+                    }
+                }
+            }
+        }
+    }
+
+    /** the ranking searchByName promises, worked out by checking every name */
+    private static List<Integer> fullScan(List<Game> games, String query, int limit) {
+        String q = NameIndex.fold(query);
+        boolean wordStart = q.indexOf(' ') < 0 ? q.length() < 3 : q.indexOf(' ') < 3;
+        List<Long> keys = new ArrayList<>(); // group, then length, then id
+        for (Game g : games) {
+            String name = NameIndex.fold(g.getName());
+            int group = name.equals(q) ? 0 : name.startsWith(q) ? 1 : name.contains(" " + q) ? 2
+                    : !wordStart && name.contains(q) ? 3 : -1;
+            if (group >= 0) keys.add((long) group << 60 | (long) name.length() << 32 | g.getId());
+        }
+        return keys.stream().sorted().limit(limit).map(k -> (int) (long) k).toList();
+    }
+
+    private static List<Integer> ids(List<Game> games) {
+        return games.stream().map(Game::getId).toList();
+    }
+}
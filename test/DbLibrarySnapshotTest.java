@@ -0,0 +1,83 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibrarySnapshotTest {
+
+    @TempDir Path temp;
+
+    private String db;
+    private Path snapshot;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("snap.db").toString();
+        snapshot = Path.of(db + ".snapshot");
+        try (DbLibrary seed = new DbLibrary(db)) {
+            seed.add(new Game(3, "Tunic", "Xbox", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL));
+            seed.add(new Game(1, "Hades", "PC", Game.Status.BEATEN, 5, Game.Ownership.DIGITAL));
+            seed.add(new Game(2, "Pokémon Scarlet", "Switch", Game.Status.PLAYING, 4, Game.Ownership.PHYSICAL));
+        }
+    }
+
+    @Test
+    void close_writesSnapshot_andNextLoadUsesIt() throws SQLException {
+        assertTrue(Files.exists(snapshot));
+        // change a row behind the stamp triggers' back: only a load from the snapshot still shows the old name
+        sql("DROP TRIGGER games_snapshot_update", "UPDATE games SET name='Changed' WHERE id=1");
+
+        for (DbLibrary.LoadMode mode : DbLibrary.LoadMode.values()) {
+            try (DbLibrary library = new DbLibrary(db, mode)) {
+                List<Game> all = library.listAll();
+                assertEquals(List.of(1, 2, 3), all.stream().map(Game::getId).toList(), mode + " keeps id order");
+                assertEquals("Hades", all.get(0).getName(), mode.toString());
+                assertEquals("Pokémon Scarlet", all.get(1).getName());
+                assertEquals(Game.Ownership.PHYSICAL, all.get(1).getOwnership());
+                assertEquals("Xbox", library.findById(3).orElseThrow().getPlatform());
+                assertEquals(1, library.countMatching(Game.Status.PLAYING, null, "switch"));
+                assertTrue(library.checkStatsConsistency().startsWith("✅"));
+            }
+        }
+    }
+
+    @Test
+    void writesFromElsewhere_makeTheSnapshotStale() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db)) {
+            sql("INSERT INTO games(id,name,platform_id,status,priority,ownership) VALUES (4,'Celeste',1,'UNPLAYED',2,'DIGITAL')");
+            assertEquals(3, library.count()); // this library has not seen it; its close must not save what it holds
+        }
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            assertEquals(4, reopened.count());
+            assertTrue(reopened.remove(2).startsWith("🗑️"));
+        }
+        try (DbLibrary again = new DbLibrary(db)) {
+            assertEquals(List.of(1, 3, 4), again.listAll().stream().map(Game::getId).toList());
+        }
+    }
+
+    @Test
+    void damagedSnapshot_fallsBackToTheTable() throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 1] ^= 0x20; // last byte of the name arena
+        Files.write(snapshot, bytes);
+
+        try (DbLibrary library = new DbLibrary(db)) {
+            assertEquals(3, library.count());
+            assertEquals("Tunic", library.findById(3).orElseThrow().getName());
+        }
+        try (DbLibrary library = new DbLibrary(db)) { // the close above wrote a good one again
+            assertEquals("Tunic", library.findById(3).orElseThrow().getName());
+        }
+    }
+
+    private void sql(String... statements) throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db); Statement st = c.createStatement()) {
+            for (String s : statements) st.executeUpdate(s);
+        }
+    }
+}
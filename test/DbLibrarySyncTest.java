@@ -0,0 +1,136 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibrarySyncTest {
+
+    @TempDir Path temp;
+
+    private String db;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("sync.db").toString();
+        try (DbLibrary seed = new DbLibrary(db)) {
+            for (int id = 1; id <= 5; id++) {
+                seed.add(new Game(id, "Game " + id, "PC", Game.Status.UNPLAYED, 1 + id % 5, Game.Ownership.DIGITAL));
+            }
+        }
+    }
+
+    @Test
+    void sync_picksUpAddsUpdatesAndRemoves_fromAnotherLibrary() {
+        try (DbLibrary gui = new DbLibrary(db); DbLibrary cli = new DbLibrary(db)) {
+            assertEquals(0, gui.sync());
+
+            cli.add(new Game(6, "Celeste", "Switch", Game.Status.PLAYING, 4, Game.Ownership.PHYSICAL));
+            cli.updateField(2, "status", "BEATEN");
+            cli.remove(3);
+            cli.update(4, new GameChanges().id(40).name("Renumbered"));
+
+            assertEquals(5, gui.count()); // not seen yet
+            assertEquals(5, gui.sync()); // 6 added, 2 changed, 3 and 4 gone, 40 added
+            assertEquals(List.of(1, 2, 5, 6, 40), gui.query().list().stream().map(Game::getId).toList());
+            assertEquals(Game.Status.BEATEN, gui.findById(2).orElseThrow().getStatus());
+            assertEquals("Switch", gui.findById(6).orElseThrow().getPlatform());
+            assertEquals(1, gui.countMatching(Game.Status.PLAYING, null, null));
+            assertTrue(gui.checkStatsConsistency().startsWith("✅"));
+            assertEquals(0, gui.sync());
+        }
+    }
+
+    @Test
+    void ownWrites_areNotCountedAgain() {
+        try (DbLibrary gui = new DbLibrary(db); DbLibrary cli = new DbLibrary(db)) {
+            gui.updateField(1, "priority", "5");
+            gui.remove(5);
+            assertEquals(0, gui.sync());
+
+            gui.updateField(2, "priority", "5");
+            cli.updateField(3, "name", "From the CLI");
+            assertEquals(1, gui.sync(), "only the CLI's change");
+            assertEquals("From the CLI", gui.findById(3).orElseThrow().getName());
+            assertEquals(3, cli.sync()); // 1 and 2 changed, 5 removed
+            assertTrue(cli.findById(5).isEmpty());
+        }
+    }
+
+    @Test
+    void removedThenAddedAgain_endsUpPresent() throws SQLException {
+        try (DbLibrary gui = new DbLibrary(db, DbLibrary.LoadMode.COMPACT); DbLibrary cli = new DbLibrary(db)) {
+            cli.remove(1);
+            cli.add(new Game(1, "Back again", "PC", Game.Status.UNPLAYED, 2, Game.Ownership.DIGITAL));
+            assertEquals(1, gui.sync());
+            assertEquals("Back again", gui.findById(1).orElseThrow().getName());
+            assertTrue(gui.checkStatsConsistency().startsWith("✅"));
+        }
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+             ResultSet rs = c.createStatement().executeQuery("SELECT COUNT(*) FROM games_deleted")) {
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    @Test
+    void oneVersionPerTransaction_boundByTheWrite() throws SQLException {
+        long before = number("SELECT value FROM library_meta WHERE key='version'");
+        try (DbLibrary cli = new DbLibrary(db); DbLibrary gui = new DbLibrary(db)) {
+            cli.addAll(List.of(new Game(6, "Six", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL),
+                    new Game(7, "Seven", "PC", Game.Status.UNPLAYED, 2, Game.Ownership.DIGITAL),
+                    new Game(8, "Eight", "PC", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL)));
+            cli.removeAll(new int[] {1, 2});
+            assertEquals(5, gui.sync());
+        }
+        assertEquals(before + 2, number("SELECT value FROM library_meta WHERE key='version'"));
+        assertEquals(before + 1, number("SELECT MIN(version) FROM games WHERE id >= 6"));
+        assertEquals(before + 1, number("SELECT MAX(version) FROM games WHERE id >= 6"));
+        assertEquals(before + 3, number("SELECT MIN(version) FROM games_deleted")); // tombstones: count + 1
+    }
+
+    @Test
+    void plainSqliteWrites_areSynced_andTheSnapshotStaysRight() throws SQLException {
+        try (DbLibrary gui = new DbLibrary(db)) {
+            assertEquals(0, gui.sync());
+            try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+                 Statement st = c.createStatement()) {
+                st.executeUpdate("INSERT INTO games(id,name,platform_id,status,priority,ownership)"
+                        + " SELECT 50, 'Typed in by hand', platform_id, 'UNPLAYED', 3, 'DIGITAL' FROM games WHERE id = 1");
+                st.executeUpdate("UPDATE games SET name = 'Edited by hand' WHERE id = 2");
+                st.executeUpdate("DELETE FROM games WHERE id = 3");
+            }
+            assertEquals(3, gui.sync());
+            assertEquals("Typed in by hand", gui.findById(50).orElseThrow().getName());
+            assertEquals("Edited by hand", gui.findById(2).orElseThrow().getName());
+            assertTrue(gui.findById(3).isEmpty());
+            assertEquals(0, gui.sync());
+        } // close() saves the snapshot the next open loads
+        try (DbLibrary again = new DbLibrary(db)) {
+            assertEquals(List.of(1, 2, 4, 5, 50), again.query().list().stream().map(Game::getId).toList());
+            assertEquals("Edited by hand", again.findById(2).orElseThrow().getName());
+            assertTrue(again.add(new Game(50, "Duplicate", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL)).startsWith("❌"));
+            assertEquals(5, again.count());
+        }
+        assertEquals(5, number("SELECT COUNT(*) FROM games"));
+    }
+
+    @Test
+    void pagedLibrary_onlyCountsChanges() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED); DbLibrary cli = new DbLibrary(db)) {
+            cli.updateField(1, "name", "Renamed");
+            cli.remove(2);
+            assertEquals(2, paged.sync());
+            assertEquals("Renamed", paged.findById(1).orElseThrow().getName());
+            assertEquals(0, paged.sync());
+        }
+    }
+
+    private long number(String sql) throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+             ResultSet rs = c.createStatement().executeQuery(sql)) {
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryUpdateTest {
+
+    @TempDir Path temp;
+
+    private String db;
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("update.db").toString();
+        library = new DbLibrary(db);
+        library.add(new Game(10, "Pentiment", "Xbox", Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL));
+        library.add(new Game(20, "Hades II", "PC", Game.Status.PLAYING, 5, Game.Ownership.DIGITAL));
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    @Test
+    void update_changesSeveralFields_inOneGo() {
+        String message = library.update(10, new GameChanges().platform("PC").status(Game.Status.BEATEN).priority(1));
+        assertTrue(message.startsWith("✅"), message);
+
+        Game g = library.findById(10).orElseThrow();
+        assertEquals("PC", g.getPlatform());
+        assertEquals(Game.Status.BEATEN, g.getStatus());
+        assertEquals(1, g.getPriority());
+        assertEquals("Pentiment", g.getName()); // not in the changes
+        assertTrue(library.checkStatsConsistency().startsWith("✅"));
+
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            assertEquals(Game.Status.BEATEN, reopened.findById(10).orElseThrow().getStatus());
+        }
+    }
+
+    @Test
+    void update_withNewId_movesTheGame() {
+        String message = library.update(10, GameChanges.allOf(
+                new Game(11, "Pentiment", "Xbox", Game.Status.PLAYING, 4, Game.Ownership.PHYSICAL)));
+        assertTrue(message.startsWith("✅"), message);
+        assertTrue(library.findById(10).isEmpty());
+        assertEquals(Game.Ownership.PHYSICAL, library.findById(11).orElseThrow().getOwnership());
+        assertEquals(2, library.listAll().size());
+        assertTrue(library.checkStatsConsistency().startsWith("✅"));
+
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            assertTrue(reopened.findById(10).isEmpty());
+            assertEquals(4, reopened.findById(11).orElseThrow().getPriority());
+        }
+    }
+
+    @Test
+    void update_rejectsTakenIdAndBadValues_withoutWritingAnything() {
+        assertTrue(library.update(10, new GameChanges().id(20).name("Clash")).startsWith("❌"));
+        assertTrue(library.update(10, new GameChanges().name("Renamed").priority(9)).startsWith("❌"));
+        assertTrue(library.update(10, new GameChanges().name("  ")).startsWith("❌"));
+        assertTrue(library.update(99, new GameChanges().name("Ghost")).startsWith("⚠️"));
+        assertTrue(library.update(10, new GameChanges()).startsWith("⚠️"));
+
+        Game g = library.findById(10).orElseThrow();
+        assertEquals("Pentiment", g.getName());
+        assertEquals(3, g.getPriority());
+        try (DbLibrary reopened = new DbLibrary(db)) {
+            assertEquals("Pentiment", reopened.findById(10).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    void failedWrite_leavesMemoryAlone() throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+             Statement st = c.createStatement()) {
+            st.executeUpdate("CREATE TRIGGER no_updates BEFORE UPDATE ON games "
+                    + "BEGIN SELECT RAISE(ABORT, 'read only'); END");
+        }
+        String message = library.update(10, new GameChanges().id(12).status(Game.Status.BEATEN));
+        assertTrue(message.startsWith("❌"), message);
+        assertTrue(library.findById(10).isPresent());
+        assertTrue(library.findById(12).isEmpty());
+        assertEquals(Game.Status.UNPLAYED, library.findById(10).orElseThrow().getStatus());
+        assertTrue(library.checkStatsConsistency().startsWith("✅"));
+    }
+
+    @Test
+    void pagedLibrary_updatesStraightInTheDb() {
+        library.close();
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            assertTrue(paged.update(20, new GameChanges().id(21).status(Game.Status.BEATEN)).startsWith("✅"));
+            assertFalse(paged.isFullyLoaded());
+            assertEquals(Game.Status.BEATEN, paged.findById(21).orElseThrow().getStatus());
+            assertTrue(paged.findById(20).isEmpty());
+        }
+        library = new DbLibrary(db);
+    }
+}
@@ -0,0 +1,126 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbLibraryWriteBehindTest {
+
+    @TempDir Path temp;
+
+    private String db;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("behind.db").toString();
+        try (DbLibrary seed = new DbLibrary(db)) {
+            for (int id = 1; id <= 3; id++) {
+                seed.add(new Game(id, "Game " + id, "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+            }
+        }
+    }
+
+    @Test
+    void repeatedEdits_areCoalesced_andSavedByFlush() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            library.enableWriteBehind(1_000, 60_000); // nothing is saved unless asked
+            assertTrue(library.isFullyLoaded());
+            for (int p = 1; p <= 5; p++) assertTrue(library.updateField(1, "priority", String.valueOf(p)).startsWith("✅"));
+            library.updateField(1, "status", "PLAYING");
+            assertTrue(library.add(new Game(4, "Celeste", "switch", Game.Status.UNPLAYED, 3, Game.Ownership.PHYSICAL)).startsWith("✅"));
+            library.remove(3);
+            assertTrue(library.update(2, new GameChanges().id(20)).startsWith("✅"));
+
+            assertEquals(5, library.pendingWrites()); // ids 1, 4, 3, 2 and 20
+            assertEquals(5, library.findById(1).orElseThrow().getPriority()); // memory has it already
+            assertEquals(List.of("1|1|UNPLAYED", "2|1|UNPLAYED", "3|1|UNPLAYED"), rows());
+
+            assertEquals("✅ Saved 5 queued edit(s)", library.flush());
+            assertEquals(0, library.pendingWrites());
+            assertEquals(List.of("1|5|PLAYING", "4|3|UNPLAYED", "20|1|UNPLAYED"), rows());
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+    }
+
+    @Test
+    void writerThread_savesAtTheRowOrTimeThreshold() throws Exception {
+        try (DbLibrary library = new DbLibrary(db)) {
+            library.enableWriteBehind(3, 60_000);
+            for (int id = 10; id < 13; id++) library.add(new Game(id, "Game " + id, "PC", Game.Status.UNPLAYED, 2, Game.Ownership.DIGITAL));
+            waitUntilSaved(library);
+            assertEquals(6, rows().size());
+
+            library.enableWriteBehind(1_000, 20);
+            library.updateField(10, "priority", "4");
+            waitUntilSaved(library);
+            assertTrue(rows().contains("10|4|UNPLAYED"));
+        }
+    }
+
+    @Test
+    void close_savesWhatIsQueued() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db)) {
+            library.enableWriteBehind(1_000, 60_000);
+            library.updateField(3, "status", "BEATEN");
+        }
+        assertTrue(rows().contains("3|1|BEATEN"));
+    }
+
+    @Test
+    void failedSave_isReported_andKeptQueued() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db)) {
+            sql("CREATE TRIGGER no_fifty BEFORE INSERT ON games WHEN NEW.id = 50 BEGIN SELECT RAISE(ABORT, 'id 50 refused'); END");
+            library.enableWriteBehind(1_000, 60_000);
+            library.add(new Game(50, "Refused", "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+
+            String failed = library.flush();
+            assertTrue(failed.startsWith("❌") && failed.contains("id 50 refused"), failed);
+            assertEquals(1, library.pendingWrites());
+            String next = library.updateField(1, "priority", "2");
+            assertTrue(next.startsWith("❌"), "edits stop while the queue cannot be saved: " + next);
+            assertEquals(1, library.findById(1).orElseThrow().getPriority());
+
+            sql("DROP TRIGGER no_fifty");
+            assertEquals("✅ Saved 1 queued edit(s)", library.flush());
+            assertTrue(library.updateField(1, "priority", "2").startsWith("✅"));
+            assertEquals("✅ Write-behind off, every edit is saved", library.disableWriteBehind());
+        }
+        assertTrue(rows().containsAll(List.of("1|2|UNPLAYED", "50|1|UNPLAYED")));
+    }
+
+    @Test
+    void sqlWork_savesTheQueueFirst() throws SQLException {
+        try (DbLibrary library = new DbLibrary(db)) {
+            library.enableWriteBehind(1_000, 60_000);
+            library.remove(2);
+            List<Game> again = new ArrayList<>(List.of(new Game(2, "Second try", "PC", Game.Status.BEATEN, 5, Game.Ownership.DIGITAL)));
+            assertTrue(library.addAll(again).isCommitted()); // the queued delete goes first
+            assertEquals(0, library.pendingWrites());
+        }
+        assertTrue(rows().contains("2|5|BEATEN"));
+    }
+
+    private static void waitUntilSaved(DbLibrary library) throws InterruptedException {
+        for (int i = 0; i < 500 && library.pendingWrites() > 0; i++) Thread.sleep(10);
+        assertEquals(0, library.pendingWrites());
+    }
+
+    /** id|priority|status of every row, in id order, straight from the file */
+    private List<String> rows() throws SQLException {
+        List<String> out = new ArrayList<>();
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+             ResultSet rs = c.createStatement().executeQuery("SELECT id || '|' || priority || '|' || status FROM games ORDER BY id")) {
+            while (rs.next()) out.add(rs.getString(1));
+        }
+        return out;
+    }
+
+    private void sql(String statement) throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db); Statement st = c.createStatement()) {
+            st.executeUpdate(statement);
+        }
+    }
+}
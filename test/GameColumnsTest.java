@@ -0,0 +1,105 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameColumnsTest {
+
+    @TempDir Path temp;
+
+    @Test
+    void rows_roundTrip_includingAccentsAndRemove() {
+        GameColumns cols = new GameColumns();
+        cols.add(new Game(1, "Pokémon Scarlet", "Switch", Game.Status.PLAYING, 3, Game.Ownership.PHYSICAL));
+        cols.add(new Game(2, "Hades", "PC", Game.Status.BEATEN, 5, Game.Ownership.DIGITAL));
+        cols.add(new Game(3, "Celeste", "Switch", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+
+        assertEquals("Pokémon Scarlet", cols.get(0).getName());
+        assertEquals(2, cols.platformCount()); // "Switch" stored once
+        assertEquals(Game.Status.BEATEN, cols.statusAt(1));
+
+        assertEquals("Pokémon Scarlet", cols.remove(0).getName()); // the others move up, in order
+        assertEquals(2, cols.size());
+        assertEquals(2, cols.idAt(0));
+        assertEquals("Celeste", cols.nameAt(1));
+        assertEquals(Game.Ownership.DIGITAL, cols.ownershipAt(1));
+        assertEquals("Hades", cols.remove(0).getName());
+        assertEquals(3, cols.get(0).getId());
+    }
+
+    @Test
+    void renamingOften_keepsNamesRight_andArenaBounded() {
+        GameColumns cols = new GameColumns();
+        for (int id = 1; id <= 100; id++) cols.add(new Game(id, "Game " + id, "PC", Game.Status.UNPLAYED, 1, Game.Ownership.DIGITAL));
+        for (int round = 0; round < 2_000; round++) {
+            int row = round % 100;
+            cols.set(row, new Game(row + 1, "Renamed " + round + " with a fairly long title", "PC",
+                    Game.Status.PLAYING, 2, Game.Ownership.DIGITAL));
+        }
+        for (int row = 0; row < 100; row++) {
+            assertEquals("Renamed " + (1_900 + row) + " with a fairly long title", cols.nameAt(row));
+        }
+        assertTrue(cols.estimatedBytes() < 200_000, "arena was never compacted: " + cols.estimatedBytes());
+    }
+
+    @Test
+    void columns_areMuchSmallerThanGameObjects() {
+        GameColumns cols = new GameColumns();
+        long objects = 0;
+        String[] platforms = {"PC", "PS5", "Switch", "Xbox Series X"};
+        for (int id = 1; id <= 50_000; id++) {
+            Game g = new Game(id, "Some Game Title " + id, platforms[id % 4], Game.Status.UNPLAYED, 3, Game.Ownership.DIGITAL);
+            cols.add(g);
+            objects += GameColumns.estimatedObjectBytes(g);
+        }
+        // about 2.35x: EAGER Games share one platform String per platform (PlatformDictionary), so the
+        // per-row platform String the columns used to save is no longer counted on the object side
+        assertTrue(cols.estimatedBytes() * 2 < objects, cols.estimatedBytes() + " vs " + objects);
+    }
+
+    @Test
+    void compactLibrary_behavesLikeEager() {
+        String db = temp.resolve("compact.db").toString();
+        try (DbLibrary eager = new DbLibrary(db)) {
+            Random rnd = new Random(19);
+            List<Game> batch = new ArrayList<>();
+            for (int id = 1; id <= 300; id++) {
+                batch.add(new Game(id, "Title " + id, rnd.nextBoolean() ? "PC" : "PS5",
+                        Game.Status.values()[rnd.nextInt(3)], 1 + rnd.nextInt(5), Game.Ownership.values()[rnd.nextInt(2)]));
+            }
+            eager.addAll(batch);
+        }
+        try (DbLibrary eager = new DbLibrary(db);
+             DbLibrary compact = new DbLibrary(db + "-copy", DbLibrary.LoadMode.COMPACT)) {
+            compact.addAll(eager.listAll());
+            Random rnd = new Random(190);
+            for (int i = 0; i < 300; i++) {
+                int id = 1 + rnd.nextInt(350);
+                for (DbLibrary lib : new DbLibrary[]{eager, compact}) {
+                    switch (i % 3) {
+                        case 0 -> lib.remove(id);
+                        case 1 -> lib.add(new Game(id, "New " + id, "Switch", Game.Status.UNPLAYED, 4, Game.Ownership.PHYSICAL));
+                        default -> lib.update(id, new GameChanges().name("Édition " + i).priority(1 + i % 5));
+                    }
+                }
+            }
+            assertTrue(compact.isFullyLoaded());
+            assertEquals(rows(eager.listAll()), rows(compact.listAll()));
+            assertEquals(eager.backlogReport(5), compact.backlogReport(5));
+            assertEquals(rows(eager.query().minPriority(3).orderByScore().limit(25).list()),
+                    rows(compact.query().minPriority(3).orderByScore().limit(25).list()));
+            assertEquals(rows(eager.searchByName("edition", 10)), rows(compact.searchByName("edition", 10)));
+            assertTrue(compact.checkStatsConsistency().startsWith("✅"), compact.checkStatsConsistency());
+            assertTrue(compact.memoryReport().contains("COMPACT"), compact.memoryReport());
+        }
+    }
+
+    private static List<String> rows(List<Game> games) {
+        return games.stream().sorted(Comparator.comparingInt(Game::getId)).map(Game::toString).toList();
+    }
+}
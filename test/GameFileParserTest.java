@@ -0,0 +1,78 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameFileParserTest {
+
+    @TempDir Path temp;
+
+    /** parses text and records rows as "id/name/platform/status/priority/ownership", bad lines as "BAD" */
+    private List<String> parse(String text, int window) throws Exception {
+        Path file = temp.resolve("list.txt");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        List<String> out = new ArrayList<>();
+        new GameFileParser(window).parseFile(file, new GameFileParser.RowSink() {
+            @Override
+            public void row(int id, String name, String platform, Game.Status status, int priority,
+                            Game.Ownership ownership) {
+                out.add(id + "/" + name + "/" + platform + "/" + status + "/" + priority + "/" + ownership);
+            }
+
+            @Override
+            public void malformed() {
+                out.add("BAD");
+            }
+        });
+        return out;
+    }
+
+    @Test
+    void sameRulesAsSplitAndTrim() throws Exception {
+        List<String> rows = parse(String.join("\n",
+                "  # comment with leading spaces",
+                "   ",
+                " 1 | Hades II |PC| unplayed |5| digital ",
+                "2|Pokémon Légendes|Switch|BEATEN|+3|PHYSICAL\r",
+                "3|Trailing pipe|PC|PLAYING|2|DIGITAL|",  // split drops the trailing empty field
+                "4|Too|many|fields|2|DIGITAL||x",
+                "5|Short|PC|PLAYING|2|",                  // only 5 fields after split
+                "x|Bad id|PC|PLAYING|2|DIGITAL",
+                "6|Odd words|PC|ABANDONED|9999999999|GAME PASS",
+                "7|Unknown enums|PC|ABANDONED|1|GAME PASS"
+        ), GameFileParser.DEFAULT_WINDOW);
+
+        assertEquals(List.of(
+                "1/Hades II/PC/UNPLAYED/5/DIGITAL",
+                "2/Pokémon Légendes/Switch/BEATEN/3/PHYSICAL",
+                "3/Trailing pipe/PC/PLAYING/2/DIGITAL",
+                "BAD",
+                "BAD",
+                "BAD",
+                "BAD",
+                "7/Unknown enums/PC/null/1/null"
+        ), rows);
+    }
+
+    @Test
+    void smallWindow_linesAcrossMappings_stillParse() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int id = 1; id <= 200; id++) {
+            sb.append(id).append("|Game ").append(id).append("|PC|UNPLAYED|3|DIGITAL\n");
+        }
+        List<String> rows = parse(sb.toString(), 64); // forces many re-maps mid-line
+        assertEquals(200, rows.size());
+        assertEquals("200/Game 200/PC/UNPLAYED/3/DIGITAL", rows.get(199));
+    }
+
+    @Test
+    void hugeLine_isAnError() {
+        String huge = "x".repeat(GameFileParser.MAX_LINE + 10);
+        assertThrows(java.io.IOException.class,
+                () -> parse("1|" + huge + "|PC|UNPLAYED|3|DIGITAL\n2|a|b|c|1|d\n", GameFileParser.DEFAULT_WINDOW));
+    }
+} // End Game File Parser Test
@@ -0,0 +1,145 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameQueryTest {
+
+    @TempDir Path temp;
+
+    private static final String[] PLATFORMS = {"PC", "PS5", "Switch"};
+
+    private String db;
+    private DbLibrary eager;
+
+    @BeforeEach
+    void setup() {
+        db = temp.resolve("query.db").toString();
+        eager = new DbLibrary(db);
+        Random rnd = new Random(18);
+        List<Game> batch = new ArrayList<>();
+        for (int id = 1; id <= 400; id++) {
+            batch.add(new Game(id * 7 % 1009, "Game " + id, PLATFORMS[rnd.nextInt(PLATFORMS.length)],
+                    Game.Status.values()[rnd.nextInt(3)], 1 + rnd.nextInt(5), Game.Ownership.values()[rnd.nextInt(2)]));
+        }
+        assertTrue(eager.addAll(batch).isCommitted());
+    }
+
+    @AfterEach
+    void tearDown() {
+        eager.close();
+    }
+
+    @Test
+    void memoryAndSql_giveTheSameAnswers() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            for (Game.Status s : new Game.Status[]{null, Game.Status.UNPLAYED, Game.Status.BEATEN}) {
+                for (String p : new String[]{null, "PC"}) {
+                    for (int min = 1; min <= 5; min += 2) {
+                        for (boolean byScore : new boolean[]{false, true}) {
+                            String what = s + "/" + p + "/" + min + "/" + byScore;
+                            assertEquals(ids(build(eager, s, p, min, byScore).list()),
+                                    ids(build(paged, s, p, min, byScore).list()), what);
+                            assertEquals(build(eager, s, p, min, byScore).count(),
+                                    build(paged, s, p, min, byScore).count(), what);
+                        }
+                    }
+                }
+            }
+            assertFalse(paged.isFullyLoaded()); // every answer came from SQL
+        }
+    }
+
+    @Test
+    void orderByScore_matchesAScanAndSort() {
+        List<Game> expected = eager.listAll().stream()
+                .filter(g -> g.getStatus() == Game.Status.UNPLAYED && g.getPriority() >= 4)
+                .sorted(Comparator.comparingInt((Game g) -> -eager.scoreFor(g)).thenComparingInt(Game::getId))
+                .limit(20)
+                .toList();
+        List<Game> got = eager.query().status(Game.Status.UNPLAYED).minPriority(4).orderByScore().limit(20).list();
+        assertEquals(ids(expected), ids(got));
+    }
+
+    @Test
+    void customStrategy_isRankedInJava_whenPaged() {
+        ScoringStrategy byName = g -> -g.getName().length() * 100 - g.getId() % 10;
+        try (DbLibrary paged = new DbLibrary(db, SqliteProfile.forDatabase(db), byName, DbLibrary.LoadMode.PAGED)) {
+            eager.setScoringStrategy(byName);
+            assertEquals(ids(eager.query().platform("PS5").orderByScore().limit(15).list()),
+                    ids(paged.query().platform("PS5").orderByScore().limit(15).list()));
+        }
+    }
+
+    @Test
+    void forEach_inSql_visitsEachMatchInIdOrder() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            int[] seen = {0};
+            int[] lastId = {0};
+            paged.query().ownership(Game.Ownership.PHYSICAL).forEach(g -> {
+                assertEquals(Game.Ownership.PHYSICAL, g.getOwnership());
+                assertTrue(g.getId() > lastId[0]); // id order
+                lastId[0] = g.getId();
+                seen[0]++;
+            });
+            assertEquals(paged.countMatching(null, Game.Ownership.PHYSICAL, null), seen[0]);
+        }
+    }
+
+    @Test
+    void forEach_inSql_actionMayUseTheLibrary() {
+        // not try-with-resources: if the action deadlocks, close() would wait on it forever
+        DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED);
+        List<Integer> seen = new ArrayList<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                paged.query().status(Game.Status.UNPLAYED).orderByScore().limit(5).forEach(g -> {
+                    assertTrue(paged.findById(g.getId()).isPresent());
+                    assertTrue(paged.updateField(g.getId(), "name", g.getName() + " (seen)").startsWith("✅"));
+                    seen.add(g.getId());
+                }));
+        assertEquals(5, seen.size());
+        for (int id : seen) assertTrue(paged.findById(id).orElseThrow().getName().endsWith(" (seen)"));
+        assertFalse(paged.isFullyLoaded());
+        paged.close();
+    }
+
+    @Test
+    void count_isTheSizeOfList_eagerAndPaged() {
+        try (DbLibrary paged = new DbLibrary(db, DbLibrary.LoadMode.PAGED)) {
+            for (DbLibrary lib : new DbLibrary[]{eager, paged}) {
+                List<GameQuery> queries = List.of(
+                        lib.query(),
+                        lib.query().status(Game.Status.PLAYING).minPriority(3),
+                        lib.query().platform("switch").ownership(Game.Ownership.DIGITAL),
+                        lib.query().platform("Dreamcast"),
+                        lib.query().minPriority(2).orderByScore().limit(25),
+                        lib.query().status(Game.Status.BEATEN).limit(1_000));
+                for (GameQuery q : queries) assertEquals(q.list().size(), q.count(), q.toString());
+            }
+            assertFalse(paged.isFullyLoaded());
+        }
+    }
+
+    @Test
+    void badArguments_areRejected() {
+        assertThrows(IllegalArgumentException.class, () -> eager.query().minPriority(0));
+        assertThrows(IllegalArgumentException.class, () -> eager.query().limit(0));
+    }
+
+    //Helpers
+
+    private static GameQuery build(DbLibrary lib, Game.Status s, String platform, int min, boolean byScore) {
+        GameQuery q = lib.query().status(s).platform(platform).minPriority(min).limit(50);
+        return byScore ? q.orderByScore() : q;
+    }
+
+    private static List<Integer> ids(List<Game> games) {
+        return games.stream().map(Game::getId).toList();
+    }
+}
@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameTableModelTest {
+
+    private static final int ROWS = 15_000; // more than MAX_PAGES * PAGE_SIZE
+
+    @TempDir Path temp;
+
+    private DbLibrary library;
+
+    @BeforeEach
+    void setup() throws IOException {
+        Path data = temp.resolve("games.txt");
+        StringBuilder sb = new StringBuilder();
+        for (int id = ROWS; id >= 1; id--) { // file order != id order
+            sb.append(id * 2).append("|Game ").append(id * 2).append("|PC|UNPLAYED|3|DIGITAL\n");
+        }
+        Files.writeString(data, sb);
+        try (DbLibrary seed = new DbLibrary(temp.resolve("table.db").toString())) {
+            seed.importFromFile(data);
+        }
+        library = new DbLibrary(temp.resolve("table.db").toString(), DbLibrary.LoadMode.PAGED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        library.close();
+    }
+
+    /** loads and delivers pages right away, on the calling thread */
+    private GameTableModel inlineModel() {
+        GameTableModel model = new GameTableModel(Runnable::run, Runnable::run);
+        model.setLibrary(library, library.count());
+        return model;
+    }
+
+    @Test
+    void rowCount_comesFromDb_andPlaceholderUntilPageArrives() {
+        List<Runnable> queued = new ArrayList<>();
+        GameTableModel model = new GameTableModel(queued::add, Runnable::run);
+        model.setLibrary(library, library.count());
+        assertEquals(ROWS, model.getRowCount());
+
+        assertNull(model.getAt(0));
+        assertEquals("Loading…", model.getValueAt(0, 1));
+        assertFalse(library.isFullyLoaded());
+
+        new ArrayList<>(queued).forEach(Runnable::run);
+        assertEquals(2, model.getValueAt(0, 0));
+        assertEquals("Game 2", model.getValueAt(0, 1));
+    }
+
+    @Test
+    void rowsAreInIdOrder_whetherReachedByJumpOrByScrolling() {
+        GameTableModel model = inlineModel();
+        int middle = ROWS / 2 + 17;
+        model.getAt(middle);                    // jump: offset query
+        assertEquals((middle + 1) * 2, model.getAt(middle).getId());
+
+        for (int row = 0; row < ROWS; row++) {  // scroll: keyset queries
+            model.getAt(row);
+            Game g = model.getAt(row);
+            assertNotNull(g, "row " + row);
+            assertEquals((row + 1) * 2, g.getId());
+        }
+    }
+
+    @Test
+    void pageCache_staysBounded() {
+        GameTableModel model = inlineModel();
+        for (int row = 0; row < ROWS; row += 50) model.getAt(row);
+        assertTrue(model.cachedPageCount() <= GameTableModel.MAX_PAGES, "pages " + model.cachedPageCount());
+        assertFalse(library.isFullyLoaded());
+    }
+
+    @Test
+    void prefetch_readsAheadInScrollDirection() {
+        List<Runnable> queued = new ArrayList<>();
+        GameTableModel model = new GameTableModel(queued::add, Runnable::run);
+        model.setLibrary(library, library.count());
+
+        model.getAt(10 * GameTableModel.PAGE_SIZE);
+        assertEquals(1 + GameTableModel.PREFETCH_PAGES, queued.size()); // page 10 + the ones after it
+        new ArrayList<>(queued).forEach(Runnable::run);
+        queued.clear();
+        assertNotNull(model.getAt(11 * GameTableModel.PAGE_SIZE));
+
+        model.getAt(5 * GameTableModel.PAGE_SIZE); // scrolling back up: read pages 4 and 3 too
+        new ArrayList<>(queued).forEach(Runnable::run);
+        assertNotNull(model.getAt(4 * GameTableModel.PAGE_SIZE));
+        assertNotNull(model.getAt(3 * GameTableModel.PAGE_SIZE));
+    }
+
+    @Test
+    void reload_dropsPagesFromTheOldQuery() {
+        List<Runnable> queued = new ArrayList<>();
+        GameTableModel model = new GameTableModel(queued::add, Runnable::run);
+        model.setLibrary(library, library.count());
+        model.getAt(0);
+
+        library.remove(2);
+        model.reload(library.count());
+        new ArrayList<>(queued).forEach(Runnable::run); // stale page must not land
+        assertEquals(ROWS - 1, model.getRowCount());
+        assertEquals(0, model.cachedPageCount());
+    }
+}
@@ -0,0 +1,72 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoringStrategyTest {
+
+    @TempDir Path temp;
+
+    @Test
+    void defaultStrategy_isTheOriginalRule() {
+        Game g = new Game(1, "Hades II", "PC", Game.Status.UNPLAYED, 5, Game.Ownership.DIGITAL);
+        assertEquals(13, ScoringStrategy.DEFAULT.score(g));
+        assertEquals(13, new WeightedScoring().score(g));
+    }
+
+    @Test
+    void cachedScore_isDroppedWhenASetterChangesTheGame() {
+        int[] calls = new int[1];
+        ScoringStrategy counting = game -> { calls[0]++; return game.getPriority(); };
+        Game g = new Game(1, "Hades II", "PC", Game.Status.UNPLAYED, 5, Game.Ownership.DIGITAL);
+
+        assertEquals(5, g.scoreWith(counting));
+        assertEquals(5, g.scoreWith(counting));
+        assertEquals(1, calls[0], "second call should come from the cache");
+
+        g.setPriority(2);
+        assertEquals(2, g.scoreWith(counting));
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    void switchingStrategy_reranksTheReport() {
+        try (DbLibrary library = new DbLibrary(temp.resolve("score.db").toString())) {
+            library.add(new Game(1, "Hades II", "PC", Game.Status.UNPLAYED, 5, Game.Ownership.DIGITAL));
+            library.add(new Game(2, "Spider-Man 2", "PS5", Game.Status.UNPLAYED, 4, Game.Ownership.PHYSICAL));
+            assertTrue(library.backlogReport(1).contains("[1] Hades II (score=13)"));
+
+            library.setScoringStrategy(new WeightedScoring()
+                    .withPlatformBoost("ps5", 5)
+                    .withOwnershipBonus(Game.Ownership.PHYSICAL, 1));
+            assertTrue(library.backlogReport(1).contains("[2] Spider-Man 2 (score=17)"));
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+
+            library.updateField(1, "platform", "PS5"); // boost now applies to game 1 too
+            assertTrue(library.backlogReport(1).contains("[1] Hades II (score=18)"));
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+    }
+    @Test
+    void hugeBoosts_rankFine_withoutAHugeBucketRange() {
+        try (DbLibrary library = new DbLibrary(temp.resolve("huge.db").toString())) {
+            library.add(new Game(1, "Hades II", "PC", Game.Status.UNPLAYED, 5, Game.Ownership.DIGITAL));
+            library.add(new Game(2, "Spider-Man 2", "PS5", Game.Status.UNPLAYED, 1, Game.Ownership.PHYSICAL));
+            library.add(new Game(3, "Celeste", "Switch", Game.Status.UNPLAYED, 5, Game.Ownership.DIGITAL));
+
+            library.setScoringStrategy(new WeightedScoring() // about 3 billion between the ends
+                    .withPlatformBoost("PS5", 1_500_000_000)
+                    .withPlatformBoost("Switch", -1_500_000_000));
+            String report = library.backlogReport(3);
+            assertTrue(report.indexOf("[2] Spider-Man 2") < report.indexOf("[1] Hades II"), report);
+            assertTrue(report.indexOf("[1] Hades II") < report.indexOf("[3] Celeste"), report);
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+
+            library.updateField(3, "platform", "PS5");
+            library.remove(2);
+            assertTrue(library.backlogReport(1).contains("[3] Celeste (score=1500000013)"));
+            assertTrue(library.checkStatsConsistency().startsWith("✅"));
+        }
+    }
+} // End Scoring Strategy Test
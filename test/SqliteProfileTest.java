@@ -0,0 +1,65 @@
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.sql.*;
+import java.util.Properties;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqliteProfileTest {
+
+    @TempDir Path temp;
+
+    @Test
+    void presets_byName() {
+        assertSame(SqliteProfile.DURABLE, SqliteProfile.preset("durable"));
+        assertSame(SqliteProfile.BALANCED, SqliteProfile.preset("Balanced"));
+        assertSame(SqliteProfile.BULK_LOAD, SqliteProfile.preset("bulk-load"));
+        assertThrows(IllegalArgumentException.class, () -> SqliteProfile.preset("turbo"));
+    }
+
+    @Test
+    void properties_overrideThePreset() {
+        Properties props = new Properties();
+        props.setProperty("profile", "durable");
+        props.setProperty("busy_timeout", "1234");
+        SqliteProfile p = SqliteProfile.fromProperties(props);
+        assertEquals("FULL", p.getSynchronous());
+        assertEquals(1234, p.getBusyTimeoutMs());
+    }
+
+    @Test
+    void badPragmaValue_isRejected() {
+        Properties props = new Properties();
+        props.setProperty("synchronous", "OFF; DROP TABLE games");
+        assertThrows(IllegalArgumentException.class, () -> SqliteProfile.fromProperties(props));
+    }
+
+    @Test
+    void library_opensInWal_andImportRestoresProfile() throws IOException, SQLException {
+        Path db = temp.resolve("wal.db");
+        Path data = temp.resolve("games.txt");
+        Files.writeString(data, "1|Hades II|PC|UNPLAYED|5|DIGITAL\n2|Pentiment|Xbox|BEATEN|3|DIGITAL\n");
+
+        try (DbLibrary library = new DbLibrary(db.toString(), SqliteProfile.DURABLE)) {
+            assertTrue(library.importFromFile(data).contains("Added: 2"));
+        }
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + db);
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA journal_mode")) {
+            assertTrue(rs.next());
+            assertEquals("wal", rs.getString(1).toLowerCase()); // WAL sticks to the file
+        }
+    }
+
+    @Test
+    void propertiesFile_nextToDb_isPickedUp() throws IOException {
+        Path db = temp.resolve("custom.db");
+        Files.writeString(Path.of(db + ".properties"), "profile=bulk-load\ncache_size=-1000\n");
+        try (DbLibrary library = new DbLibrary(db.toString())) {
+            assertEquals("bulk-load", library.getProfile().getName());
+            assertEquals(-1000, library.getProfile().getCacheSize());
+        }
+    }
+} // End SQLite Profile Test